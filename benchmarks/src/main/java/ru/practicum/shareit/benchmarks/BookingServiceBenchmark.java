@@ -0,0 +1,65 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.enums.BookingState;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.service.BookingService;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бронирования предметов владельца для каждого значения {@link BookingState}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingServiceBenchmark {
+
+    @Param({"10", "100"})
+    private int items;
+
+    @Param({"20"})
+    private int bookingsPerItem;
+
+    @Param
+    private BookingState state;
+
+    private ServerContext context;
+    private BookingService bookingService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ServerContext.start();
+        new DataSeeder(context.jdbc())
+                .users()
+                .ownerItems(items, bookingsPerItem, 0);
+
+        bookingService = context.getBean(BookingService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Collection<Booking> findByOwnerAndState() {
+        return bookingService.findByOwnerAndState(DataSeeder.OWNER_ID, state);
+    }
+}
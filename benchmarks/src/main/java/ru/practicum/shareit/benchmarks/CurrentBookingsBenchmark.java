@@ -0,0 +1,93 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.dto.BookingPage;
+import ru.practicum.shareit.booking.enums.BookingState;
+import ru.practicum.shareit.booking.service.BookingService;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Первая страница текущих бронирований арендатора и владельца на миллионе бронирований.
+ * Перед замером план запроса проверяется через EXPLAIN: условие {@code start_date <= ? AND end_date > ?}
+ * должно читать диапазон индекса {@code (booker_id, start_date, end_date)}, а не всю историю арендатора.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CurrentBookingsBenchmark {
+
+    private static final String BOOKER_INDEX = "IX_BOOKINGS_BOOKER_START_END";
+
+    @Param({"10000"})
+    private int items;
+
+    @Param({"100"})
+    private int bookingsPerItem;
+
+    @Param({"20"})
+    private int pageSize;
+
+    private ServerContext context;
+    private BookingService bookingService;
+    private long bookerId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ServerContext.start();
+        JdbcTemplate jdbc = context.jdbc();
+        new DataSeeder(jdbc)
+                .users()
+                .ownerItems(items, bookingsPerItem, 0);
+        jdbc.execute("ANALYZE");
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        bookerId = jdbc.queryForObject(
+                "SELECT booker_id FROM bookings WHERE start_date <= ? AND end_date > ? LIMIT 1",
+                Long.class, now, now);
+
+        String plan = jdbc.queryForObject(
+                "EXPLAIN SELECT id FROM bookings WHERE booker_id = ? AND start_date <= ? AND end_date > ? "
+                        + "ORDER BY end_date DESC, id DESC",
+                String.class, bookerId, now, now);
+        if (plan == null || !plan.toUpperCase().contains(BOOKER_INDEX)) {
+            throw new IllegalStateException("Текущие бронирования читаются без индекса " + BOOKER_INDEX
+                    + ": " + plan);
+        }
+
+        bookingService = context.getBean(BookingService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BookingPage currentByBooker() {
+        return bookingService.findByBookerAndState(bookerId, BookingState.CURRENT, null, pageSize);
+    }
+
+    @Benchmark
+    public BookingPage currentByOwner() {
+        return bookingService.findByOwnerAndState(DataSeeder.OWNER_ID, BookingState.CURRENT, null, pageSize);
+    }
+}
@@ -0,0 +1,188 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Заполняет базу пакетными вставками: один владелец {@link #OWNER_ID}, пул арендаторов,
+ * предметы владельца с бронированиями и комментариями, запросы первого арендатора с откликнувшимися предметами.
+ * Бронирования каждого предмета поровну распределены в прошлом и будущем, статусы чередуются.
+ */
+public final class DataSeeder {
+
+    public static final long OWNER_ID = 1L;
+    public static final long REQUESTOR_ID = 2L;
+
+    private static final int BOOKERS = 10;
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String[] SYLLABLES = {"ka", "ro", "mi", "te", "lu", "sa", "no", "vi"};
+
+    private final JdbcTemplate jdbc;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private long nextItemId = 1;
+    private long nextBookingId = 1;
+    private long nextCommentId = 1;
+
+    public DataSeeder(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public DataSeeder users() {
+        List<Object[]> users = new ArrayList<>();
+        for (long id = OWNER_ID; id <= OWNER_ID + BOOKERS; id++) {
+            users.add(new Object[]{id, "user" + id, "user" + id + "@shareit.ru"});
+        }
+        batch("INSERT INTO users (id, name, email) VALUES (?, ?, ?)", users);
+        restartSequence("users");
+
+        return this;
+    }
+
+    /**
+     * Добавляет предметы владельца.
+     *
+     * @param items           количество предметов
+     * @param bookingsPerItem количество бронирований каждого предмета
+     * @param commentsPerItem количество комментариев к каждому предмету
+     */
+    public DataSeeder ownerItems(int items, int bookingsPerItem, int commentsPerItem) {
+        List<Object[]> itemRows = new ArrayList<>();
+        List<Object[]> bookingRows = new ArrayList<>();
+        List<Object[]> commentRows = new ArrayList<>();
+
+        long firstItemId = nextItemId;
+        for (int i = 0; i < items; i++) {
+            long itemId = nextItemId++;
+            itemRows.add(new Object[]{itemId, "item" + itemId, "description " + itemId, true, OWNER_ID, null});
+
+            for (int c = 0; c < commentsPerItem; c++) {
+                commentRows.add(new Object[]{nextCommentId++, itemId, booker(c), "comment " + c,
+                        Timestamp.valueOf(now.minusDays(c))});
+            }
+        }
+        insertItems(itemRows);
+
+        // бронирования вставляются по мере накопления пачки, чтобы миллион строк не держать в памяти
+        for (long itemId = firstItemId; itemId < nextItemId; itemId++) {
+            for (int b = 0; b < bookingsPerItem; b++) {
+                LocalDateTime start = now.plusDays(b - bookingsPerItem / 2L).plusHours(itemId % 24);
+                bookingRows.add(new Object[]{nextBookingId++, Timestamp.valueOf(start),
+                        Timestamp.valueOf(start.plusHours(12)), itemId, booker(b),
+                        BookingStatus.values()[b % BookingStatus.values().length].name()});
+
+                if (bookingRows.size() == BATCH_SIZE) {
+                    insertBookings(bookingRows);
+                    bookingRows.clear();
+                }
+            }
+        }
+        insertBookings(bookingRows);
+        batch("INSERT INTO comments (id, item_id, author_id, content, created_at) VALUES (?, ?, ?, ?, ?)",
+                commentRows);
+        jdbc.update("INSERT INTO item_comment_stats (item_id, comments_count) "
+                + "SELECT i.id, (SELECT COUNT(*) FROM comments c WHERE c.item_id = i.id) "
+                + "FROM items i WHERE i.id >= ?", firstItemId);
+        restartSequence("items");
+        restartSequence("bookings");
+        restartSequence("comments");
+
+        return this;
+    }
+
+    /**
+     * Добавляет запросы пользователя {@link #REQUESTOR_ID} и предметы владельца, созданные в ответ на них.
+     *
+     * @param requests        количество запросов
+     * @param itemsPerRequest количество предметов на запрос
+     */
+    public DataSeeder requests(int requests, int itemsPerRequest) {
+        List<Object[]> requestRows = new ArrayList<>();
+        List<Object[]> itemRows = new ArrayList<>();
+
+        for (long requestId = 1; requestId <= requests; requestId++) {
+            requestRows.add(new Object[]{requestId, "request " + requestId, REQUESTOR_ID,
+                    Timestamp.valueOf(now.minusMinutes(requestId))});
+
+            for (int i = 0; i < itemsPerRequest; i++) {
+                long itemId = nextItemId++;
+                itemRows.add(new Object[]{itemId, "item" + itemId, "description " + itemId, true, OWNER_ID,
+                        requestId});
+            }
+        }
+
+        batch("INSERT INTO item_requests (id, description, requestor_id, created_at) VALUES (?, ?, ?, ?)",
+                requestRows);
+        insertItems(itemRows);
+        restartSequence("item_requests");
+        restartSequence("items");
+
+        return this;
+    }
+
+    /**
+     * Добавляет доступные предметы владельца, название и описание которых составлены из слов
+     * вида {@code karomi}: три слога из восьми, то есть 512 разных слов.
+     *
+     * @param items количество предметов
+     */
+    public DataSeeder searchableItems(int items) {
+        List<Object[]> itemRows = new ArrayList<>();
+
+        for (int i = 0; i < items; i++) {
+            long itemId = nextItemId++;
+            itemRows.add(new Object[]{itemId, word(i) + " " + word(i * 7 + 3),
+                    word(i * 13 + 5) + " " + word(i * 31 + 11) + " " + word(i * 61 + 17), true, OWNER_ID, null});
+
+            if (itemRows.size() == BATCH_SIZE) {
+                insertItems(itemRows);
+                itemRows.clear();
+            }
+        }
+        insertItems(itemRows);
+        restartSequence("items");
+
+        return this;
+    }
+
+    private static String word(int index) {
+        int n = Math.floorMod(index, SYLLABLES.length * SYLLABLES.length * SYLLABLES.length);
+        return SYLLABLES[n / 64] + SYLLABLES[n / 8 % 8] + SYLLABLES[n % 8];
+    }
+
+    private void insertItems(List<Object[]> rows) {
+        batch("INSERT INTO items (id, name, description, available, owner_id, request_id) VALUES (?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    private void insertBookings(List<Object[]> rows) {
+        batch("INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status) VALUES (?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    private long booker(int index) {
+        return OWNER_ID + 1 + index % BOOKERS;
+    }
+
+    /**
+     * Переводит последовательность таблицы за вставленные явно id, чтобы сервер мог создавать свои строки.
+     *
+     * @param table таблица с последовательностью {@code <table>_seq}
+     */
+    private void restartSequence(String table) {
+        Long next = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table, Long.class);
+        jdbc.execute("ALTER SEQUENCE " + table + "_seq RESTART WITH " + next);
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbc.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+}
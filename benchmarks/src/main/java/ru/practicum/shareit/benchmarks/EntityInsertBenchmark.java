@@ -0,0 +1,112 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.dao.CommentRepository;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Вставка пачки предметов с комментариями одной транзакцией. Параметр {@code batchSize} задает
+ * {@code hibernate.jdbc.batch_size}: при 1 каждая строка уходит отдельным запросом, как было при IDENTITY.
+ * Кэш второго уровня выключен, чтобы замер не зависел от вытеснения из региона предметов.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 3)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityInsertBenchmark {
+
+    @Param({"100"})
+    private int items;
+
+    @Param({"1"})
+    private int commentsPerItem;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ServerContext context;
+    private TransactionTemplate transactionTemplate;
+    private ItemRepository itemRepository;
+    private CommentRepository commentRepository;
+    private User author;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ServerContext.start("like",
+                "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=false");
+        new DataSeeder(context.jdbc()).users();
+
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        itemRepository = context.getBean(ItemRepository.class);
+        commentRepository = context.getBean(CommentRepository.class);
+        author = context.getBean(UserRepository.class).findById(DataSeeder.REQUESTOR_ID).orElseThrow();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Comment> insertItemsWithComments() {
+        return transactionTemplate.execute(status -> {
+            List<Item> saved = itemRepository.saveAll(newItems());
+            return commentRepository.saveAll(newComments(saved));
+        });
+    }
+
+    private List<Item> newItems() {
+        List<Item> result = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            result.add(Item.builder()
+                    .name("item " + i)
+                    .description("description " + i)
+                    .isAvailable(true)
+                    .ownerId(DataSeeder.OWNER_ID)
+                    .build());
+        }
+        return result;
+    }
+
+    private List<Comment> newComments(List<Item> saved) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Comment> result = new ArrayList<>(saved.size() * commentsPerItem);
+        for (Item item : saved) {
+            for (int c = 0; c < commentsPerItem; c++) {
+                result.add(Comment.builder()
+                        .item(item)
+                        .author(author)
+                        .text("comment " + c)
+                        .created(now)
+                        .build());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,79 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.practicum.shareit.Constants;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.service.ItemRequestService;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Обогащение запросов предметами, созданными в ответ на них.
+ * Выгрузку всех запросов порциями сравнивать с {@code getAllRequests} под {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemRequestServiceBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int requests;
+
+    @Param({"3"})
+    private int itemsPerRequest;
+
+    private ServerContext context;
+    private ItemRequestService itemRequestService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ServerContext.start();
+        new DataSeeder(context.jdbc())
+                .users()
+                .requests(requests, itemsPerRequest);
+
+        itemRequestService = context.getBean(ItemRequestService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Collection<ItemRequestDto> getRequests() {
+        return itemRequestService.getRequests(DataSeeder.REQUESTOR_ID);
+    }
+
+    @Benchmark
+    public Collection<ItemRequestDto> getAllRequests() {
+        return itemRequestService.getAllRequests();
+    }
+
+    @Benchmark
+    public Collection<ItemRequestDto> getAllRequestsMiddlePage() {
+        return itemRequestService.getAllRequests(requests / 2, Constants.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public void exportAllRequests(Blackhole blackhole) {
+        itemRequestService.exportAllRequests(blackhole::consume);
+    }
+}
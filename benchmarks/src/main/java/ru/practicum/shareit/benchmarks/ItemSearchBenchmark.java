@@ -0,0 +1,75 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.search.InvertedIndexItemSearchEngine;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
+import ru.practicum.shareit.item.search.TrigramItemSearchEngine;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Поиск предметов через {@code LIKE} в H2 и через индексы в памяти.
+ * Движок {@code postgres} требует PostgreSQL и здесь не измеряется.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ItemSearchBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int items;
+
+    @Param({"like", "memory", "trigram"})
+    private String engine;
+
+    @Param({"karomi", "zzzz"})
+    private String text;
+
+    private ServerContext context;
+    private ItemService itemService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ServerContext.start(engine);
+        new DataSeeder(context.jdbc())
+                .users()
+                .searchableItems(items);
+
+        ItemSearchEngine searchEngine = context.getBean(ItemSearchEngine.class);
+        if (searchEngine instanceof InvertedIndexItemSearchEngine inverted) {
+            inverted.load();
+        } else if (searchEngine instanceof TrigramItemSearchEngine trigram) {
+            trigram.load();
+        }
+
+        itemService = context.getBean(ItemService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Collection<ItemDto> search() {
+        return itemService.searchItems(text, 20);
+    }
+}
@@ -0,0 +1,88 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.mappers.CommentMapper;
+import ru.practicum.shareit.item.mappers.ItemMapper;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private Item item;
+    private ItemDto itemDto;
+    private BookingDto bookingDto;
+    private Comment comment;
+
+    @Setup
+    public void setUp() {
+        User user = new User(1L, "user", "user@shareit.ru");
+        item = new Item(1L, "item", "description", true, 1L, null);
+
+        itemDto = new ItemDto();
+        itemDto.setName("new name");
+        itemDto.setDescription("new description");
+        itemDto.setAvailable(false);
+
+        bookingDto = new BookingDto();
+        bookingDto.setItemId(1L);
+        bookingDto.setStart(LocalDateTime.now().plusDays(1));
+        bookingDto.setEnd(LocalDateTime.now().plusDays(2));
+
+        comment = Comment.builder()
+                .id(1L)
+                .text("comment")
+                .item(item)
+                .author(user)
+                .created(LocalDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public ItemDto itemToDto() {
+        return ItemMapper.toItemDto(item);
+    }
+
+    @Benchmark
+    public Item dtoToItem() {
+        return ItemMapper.toItem(itemDto);
+    }
+
+    @Benchmark
+    public Item mergeItem() {
+        return ItemMapper.merge(ItemMapper.copy(item), itemDto);
+    }
+
+    @Benchmark
+    public Booking dtoToBooking() {
+        return BookingMapper.toBooking(bookingDto);
+    }
+
+    @Benchmark
+    public CommentDto commentToDto() {
+        return CommentMapper.toCommentDto(comment);
+    }
+}
@@ -0,0 +1,78 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItApp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Контекст сервера без веб-слоя поверх отдельной базы H2 в памяти.
+ * Схема создается миграциями Flyway так же, как в рабочем окружении.
+ * Отладочное логирование транзакций из настроек сервера отключается, иначе оно занимает большую часть замера.
+ */
+public final class ServerContext implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+
+    private ServerContext(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    public static ServerContext start() {
+        return start("like");
+    }
+
+    /**
+     * Запускает контекст с указанным поисковым движком предметов.
+     *
+     * @param searchEngine значение свойства {@code shareit.search.engine}
+     * @param properties   дополнительные свойства вида {@code name=value}
+     */
+    public static ServerContext start(String searchEngine, String... properties) {
+        String url = "jdbc:h2:mem:shareit-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework=WARN",
+                "--logging.level.org.springframework.orm.jpa=WARN",
+                "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN",
+                "--logging.level.org.springframework.transaction=WARN",
+                "--logging.level.org.springframework.transaction.interceptor=WARN",
+                "--shareit.search.engine=" + searchEngine,
+                "--shareit.comments.latest-query=window",
+                "--shareit.booking-summary.roll-interval=3600000"
+        ));
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ShareItApp.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+
+        return new ServerContext(context);
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public JdbcTemplate jdbc() {
+        return context.getBean(JdbcTemplate.class);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
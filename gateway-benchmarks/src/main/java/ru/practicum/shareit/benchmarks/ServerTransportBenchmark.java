@@ -0,0 +1,155 @@
+package ru.practicum.shareit.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import ru.practicum.shareit.client.transport.BlockingServerTransport;
+import ru.practicum.shareit.client.transport.PassThroughServerTransport;
+import ru.practicum.shareit.client.transport.ReactiveServerTransport;
+import ru.practicum.shareit.client.transport.ServerHttpClientConfig;
+import ru.practicum.shareit.client.transport.ServerHttpClientProperties;
+import ru.practicum.shareit.client.transport.ServerTransport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Стоимость проксирования ответа сервера через шлюз. Тело ответа записывается так же, как это делает MVC:
+ * массив байтов и поток копируются как есть, остальное сериализуется {@link ObjectMapper}.
+ * Байты на запрос смотреть с профайлером {@code -prof gc} (метрика {@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServerTransportBenchmark {
+
+    public enum Transport {
+        BLOCKING, REACTIVE, PASSTHROUGH
+    }
+
+    @Param({"10", "1000", "5000"})
+    private int items;
+
+    @Param
+    private Transport transport;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OutputStream servletOutput = OutputStream.nullOutputStream();
+
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+    private ServerTransport serverTransport;
+    private URI uri;
+    private HttpHeaders headers;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(items(items));
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/items", exchange -> {
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+            exchange.sendResponseHeaders(200, json.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(json);
+            }
+        });
+        server.start();
+
+        uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/items");
+        headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        headers.set("X-Sharer-User-Id", "1");
+
+        ServerHttpClientConfig clientConfig = new ServerHttpClientConfig();
+        ServerHttpClientProperties properties = new ServerHttpClientProperties();
+        httpClient = clientConfig.serverHttpClient(
+                clientConfig.serverConnectionManager(properties, new SimpleMeterRegistry()), properties);
+        ClientHttpRequestFactory requestFactory = clientConfig.serverRequestFactory(httpClient);
+
+        serverTransport = switch (transport) {
+            case BLOCKING -> new BlockingServerTransport(new RestTemplateBuilder(), requestFactory);
+            case REACTIVE -> new ReactiveServerTransport(WebClient.builder()
+                    .clientConnector(clientConfig.serverHttpConnector(properties))
+                    .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(-1)));
+            case PASSTHROUGH -> new PassThroughServerTransport(requestFactory, objectMapper, properties);
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> getItems() throws IOException {
+        ResponseEntity<Object> response = serverTransport.exchange(HttpMethod.GET, uri, headers, null).block();
+        writeBody(response.getBody());
+        return response;
+    }
+
+    private void writeBody(Object body) throws IOException {
+        if (body instanceof byte[] bytes) {
+            servletOutput.write(bytes);
+        } else if (body instanceof Resource resource) {
+            try (InputStream in = resource.getInputStream()) {
+                in.transferTo(servletOutput);
+            }
+        } else if (body != null) {
+            objectMapper.writeValue(StreamUtils.nonClosing(servletOutput), body);
+        }
+    }
+
+    private static List<Map<String, Object>> items(int count) {
+        List<Map<String, Object>> items = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", i);
+            item.put("name", "Item " + i);
+            item.put("description", "Description of item number " + i + " available for booking");
+            item.put("available", true);
+            item.put("requestId", null);
+            item.put("lastBooking", Map.of("id", i, "bookerId", 2,
+                    "start", "2024-01-01T10:00:00", "end", "2024-01-02T10:00:00"));
+            item.put("nextBooking", null);
+            item.put("comments", List.of());
+            items.add(item);
+        }
+        return items;
+    }
+}
@@ -3,11 +3,15 @@ package ru.practicum.shareit;
 public class Util {
     public static final String USER_ID_HEADER = "X-Sharer-User-Id";
 
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_BATCH_SIZE = 500;
+
     public static final String EMPTY_PATH = "";
 
     public static final String USERS_PATH = "/users";
     public static final String ITEMS_PATH = "/items";
     public static final String BOOKING_PATH = "/bookings";
     public static final String REQUEST_PATH = "/requests";
+    public static final String OWNERS_PATH = "/owners";
 
 }
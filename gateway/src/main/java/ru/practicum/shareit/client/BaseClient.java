@@ -1,118 +1,190 @@
 package ru.practicum.shareit.client;
 
 import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.lang.Nullable;
-import org.springframework.web.client.HttpStatusCodeException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.DefaultUriBuilderFactory;
-
+import org.springframework.web.util.UriBuilderFactory;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.cache.ResponseCache;
+import ru.practicum.shareit.client.transport.ProxyHeaders;
+import ru.practicum.shareit.client.transport.ServerTransport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 public class BaseClient {
 
+    private static final int STREAM_BUFFER_SIZE = 8192;
+
     @Value("${shareit-server.url}")
     private String serverUrl;
 
+    @Autowired
+    private ServerTransport transport;
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Autowired
+    private ClientHttpRequestFactory serverRequestFactory;
+
     private final String prefix;
 
-    protected RestTemplate rest;
+    private UriBuilderFactory uriBuilderFactory;
 
     @PostConstruct
     public void init() {
-        RestTemplateBuilder builder = new RestTemplateBuilder();
-
-        this.rest = builder.uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + prefix))
-                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                .build();
+        this.uriBuilderFactory = new DefaultUriBuilderFactory(serverUrl + prefix);
     }
 
     public BaseClient(String prefix) {
         this.prefix = prefix;
     }
 
-    protected ResponseEntity<Object> get(String path) {
+    protected Mono<ResponseEntity<Object>> get(String path) {
         return get(path, null, null);
     }
 
-    protected ResponseEntity<Object> get(String path, long userId) {
+    protected Mono<ResponseEntity<Object>> get(String path, long userId) {
         return get(path, userId, null);
     }
 
-    protected ResponseEntity<Object> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
+    protected Mono<ResponseEntity<Object>> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
         return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, T body) {
+    protected Mono<ResponseEntity<Object>> cachedGet(String path, @Nullable Long userId) {
+        return responseCache.get(prefix + path, userId, () -> get(path, userId, null));
+    }
+
+    /**
+     * Сбрасывает кэшированные ответы по переданным путям на сервере, когда изменяющий запрос завершится.
+     * Сброс выполняется до того, как ответ уйдет дальше, поэтому следующий запрос клиента уже не получит
+     * устаревший ответ из кэша.
+     */
+    protected Mono<ResponseEntity<Object>> invalidating(Mono<ResponseEntity<Object>> write, String... paths) {
+        return beforeResult(write, () -> {
+            for (String path : paths) {
+                responseCache.invalidate(path);
+            }
+        });
+    }
+
+    protected Mono<ResponseEntity<Object>> invalidatingAll(Mono<ResponseEntity<Object>> write) {
+        return beforeResult(write, responseCache::invalidateAll);
+    }
+
+    /**
+     * Выполняет действие перед передачей результата или ошибки подписчику, а также при отмене запроса,
+     * после которой сервер мог уже применить изменение.
+     */
+    private static Mono<ResponseEntity<Object>> beforeResult(Mono<ResponseEntity<Object>> write, Runnable action) {
+        return write.doOnSuccess(response -> action.run())
+                .doOnError(e -> action.run())
+                .doOnCancel(action);
+    }
+
+    protected <T> Mono<ResponseEntity<Object>> post(String path, T body) {
         return post(path, null, null, body);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, long userId, T body) {
+    protected <T> Mono<ResponseEntity<Object>> post(String path, long userId, T body) {
         return post(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+    protected <T> Mono<ResponseEntity<Object>> post(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.POST, path, userId, parameters, body);
     }
 
-    protected <T> ResponseEntity<Object> put(String path, long userId, T body) {
+    protected <T> Mono<ResponseEntity<Object>> put(String path, long userId, T body) {
         return put(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> put(String path, long userId, @Nullable Map<String, Object> parameters, T body) {
+    protected <T> Mono<ResponseEntity<Object>> put(String path, long userId, @Nullable Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.PUT, path, userId, parameters, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, T body) {
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, T body) {
         return patch(path, null, null, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, long userId) {
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, long userId) {
         return patch(path, userId, null, null);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, long userId, T body) {
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, long userId, T body) {
         return patch(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, long userId, Map<String, Object> parameters) {
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, long userId, Map<String, Object> parameters) {
         return patch(path, userId, parameters, null);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+    protected <T> Mono<ResponseEntity<Object>> patch(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
     }
 
-    protected ResponseEntity<Object> delete(String path) {
+    protected Mono<ResponseEntity<Object>> delete(String path) {
         return delete(path, null, null);
     }
 
-    protected ResponseEntity<Object> delete(String path, long userId) {
+    protected Mono<ResponseEntity<Object>> delete(String path, long userId) {
         return delete(path, userId, null);
     }
 
-    protected ResponseEntity<Object> delete(String path, Long userId, @Nullable Map<String, Object> parameters) {
+    protected Mono<ResponseEntity<Object>> delete(String path, Long userId, @Nullable Map<String, Object> parameters) {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
     }
 
-    private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
-
-        ResponseEntity<Object> shareitServerResponse;
+    /**
+     * Передает ответ сервера клиенту шлюза потоком, мимо транспорта и кэша. Подходит для выгрузок,
+     * которые не помещаются в память: каждая прочитанная порция сразу записывается и отправляется.
+     * Соединение с сервером возвращается в пул, когда тело записано или запись прервалась.
+     *
+     * @param path   путь на сервере
+     * @param accept формат ответа
+     * @return ответ с тем же статусом и заголовками, тело которого копируется при записи
+     */
+    protected ResponseEntity<StreamingResponseBody> stream(String path, MediaType accept) throws IOException {
+        ClientHttpRequest request = serverRequestFactory.createRequest(
+                uriBuilderFactory.expand(path, Collections.emptyMap()), HttpMethod.GET);
+        request.getHeaders().setAccept(List.of(accept));
+
+        ClientHttpResponse response = request.execute();
         try {
-            if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
-            } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
-            }
-        } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            return ResponseEntity.status(response.getStatusCode())
+                    .headers(ProxyHeaders.forward(response.getHeaders()))
+                    .body(out -> {
+                        try (response; InputStream in = response.getBody()) {
+                            byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+                            int read;
+                            while ((read = in.read(buffer)) != -1) {
+                                out.write(buffer, 0, read);
+                                out.flush();
+                            }
+                        }
+                    });
+        } catch (IOException | RuntimeException e) {
+            response.close();
+            throw e;
         }
-        return prepareGatewayResponse(shareitServerResponse);
+    }
+
+    private <T> Mono<ResponseEntity<Object>> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
+        URI uri = uriBuilderFactory.expand(path, parameters != null ? parameters : Collections.emptyMap());
+
+        return transport.exchange(method, uri, defaultHeaders(userId), body);
     }
 
     private HttpHeaders defaultHeaders(Long userId) {
@@ -124,18 +196,4 @@ public class BaseClient {
         }
         return headers;
     }
-
-    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
-        }
-
-        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
-
-        if (response.hasBody()) {
-            return responseBuilder.body(response.getBody());
-        }
-
-        return responseBuilder.build();
-    }
 }
\ No newline at end of file
@@ -2,10 +2,14 @@ package ru.practicum.shareit.client;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.dto.BookingDto;
 import ru.practicum.shareit.dto.BookingState;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static ru.practicum.shareit.Util.BOOKING_PATH;
 import static ru.practicum.shareit.Util.EMPTY_PATH;
@@ -16,29 +20,53 @@ public class BookingClient extends BaseClient {
         super(BOOKING_PATH);
     }
 
-    public ResponseEntity<Object> createBooking(Long userId, BookingDto dto) {
+    public Mono<ResponseEntity<Object>> createBooking(Long userId, BookingDto dto) {
         if (!dto.getStart().isBefore(dto.getEnd())) {
-            return ResponseEntity.badRequest().build();
+            return Mono.just(ResponseEntity.badRequest().build());
         }
 
         return post(EMPTY_PATH, userId, dto);
     }
 
-    public ResponseEntity<Object> updateBookingStatus(Long userId, Long bookingId, Boolean approved) {
+    public Mono<ResponseEntity<Object>> createBookings(Long userId, List<BookingDto> dtos) {
+        return post("/batch", userId, dtos);
+    }
+
+    public Mono<ResponseEntity<Object>> updateBookingStatus(Long userId, Long bookingId, Boolean approved) {
         return patch("/" + bookingId + "?approved={approved}",
                 userId,
                 Collections.singletonMap("approved", approved));
     }
 
-    public ResponseEntity<Object> getBooking(Long userId, Long bookingId) {
+    public Mono<ResponseEntity<Object>> getBooking(Long userId, Long bookingId) {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> findByBookerAndState(Long bookerId, BookingState state) {
-        return get("?state={state}", bookerId, Collections.singletonMap("state", state));
+    public Mono<ResponseEntity<Object>> findByBookerAndState(Long bookerId, BookingState state,
+                                                             String cursor, Integer size) {
+        return findByState(EMPTY_PATH, bookerId, state, cursor, size);
+    }
+
+    public Mono<ResponseEntity<Object>> findByOwnerAndState(Long ownerId, BookingState state,
+                                                            String cursor, Integer size) {
+        return findByState("/owner", ownerId, state, cursor, size);
     }
 
-    public ResponseEntity<Object> findByOwnerAndState(Long ownerId, BookingState state) {
-        return get("/owner?state={state}", ownerId, Collections.singletonMap("state", state));
+    private Mono<ResponseEntity<Object>> findByState(String path, Long userId, BookingState state,
+                                                     String cursor, Integer size) {
+        StringBuilder query = new StringBuilder(path).append("?state={state}");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", state);
+
+        if (cursor != null) {
+            query.append("&cursor={cursor}");
+            parameters.put("cursor", cursor);
+        }
+        if (size != null) {
+            query.append("&size={size}");
+            parameters.put("size", size);
+        }
+
+        return get(query.toString(), userId, parameters);
     }
 }
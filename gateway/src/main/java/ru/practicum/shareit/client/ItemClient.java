@@ -2,13 +2,20 @@ package ru.practicum.shareit.client;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.dto.CommentCreate;
 import ru.practicum.shareit.dto.ItemDto;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static ru.practicum.shareit.Util.EMPTY_PATH;
 import static ru.practicum.shareit.Util.ITEMS_PATH;
+import static ru.practicum.shareit.Util.REQUEST_PATH;
 
 @Component
 public class ItemClient extends BaseClient {
@@ -17,31 +24,73 @@ public class ItemClient extends BaseClient {
         super(ITEMS_PATH);
     }
 
-    public ResponseEntity<Object> getItem(Long itemId) {
-        return get("/" + itemId);
+    public Mono<ResponseEntity<Object>> getItem(Long itemId) {
+        return cachedGet("/" + itemId, null);
     }
 
-    public ResponseEntity<Object> searchItems(String text) {
+    public Mono<ResponseEntity<Object>> getAvailability(Long itemId, LocalDateTime from, LocalDateTime to) {
+        StringBuilder query = new StringBuilder("/").append(itemId).append("/availability");
+        Map<String, Object> parameters = new HashMap<>();
+
+        if (from != null) {
+            parameters.put("from", from);
+        }
+        if (to != null) {
+            parameters.put("to", to);
+        }
+        String separator = "?";
+        for (String name : parameters.keySet()) {
+            query.append(separator).append(name).append("={").append(name).append("}");
+            separator = "&";
+        }
+
+        return get(query.toString(), null, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> getComments(Long itemId, int from, int size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("from", from);
+        parameters.put("size", size);
+
+        return get("/" + itemId + "/comments?from={from}&size={size}", null, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> getItemsByIds(List<Long> ids) {
+        String joined = ids.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        return get("?ids={ids}", null, Collections.singletonMap("ids", joined));
+    }
+
+    public Mono<ResponseEntity<Object>> searchItems(String text, int size) {
         if (text == null || text.isBlank()) {
-            return ResponseEntity.ok().body(Collections.emptyList());
+            return Mono.just(ResponseEntity.ok().body(Collections.emptyList()));
         }
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("text", text);
+        parameters.put("size", size);
 
-        return get("/search?text={text}", null, Collections.singletonMap("text", text));
+        return get("/search?text={text}&size={size}", null, parameters);
     }
 
-    public ResponseEntity<Object> getItems(Long userId) {
+    public Mono<ResponseEntity<Object>> getItems(Long userId) {
         return get(EMPTY_PATH, userId);
     }
 
-    public ResponseEntity<Object> addItem(Long userId, ItemDto dto) {
-        return post(EMPTY_PATH, userId, dto);
+    public Mono<ResponseEntity<Object>> addItem(Long userId, ItemDto dto) {
+        if (dto.getRequestId() == null) {
+            return post(EMPTY_PATH, userId, dto);
+        }
+
+        return invalidating(post(EMPTY_PATH, userId, dto), REQUEST_PATH);
     }
 
-    public ResponseEntity<Object> updateItem(Long userId, Long itemId, ItemDto dto) {
-        return patch("/" + itemId, userId, dto);
+    public Mono<ResponseEntity<Object>> updateItem(Long userId, Long itemId, ItemDto dto) {
+        return invalidating(patch("/" + itemId, userId, dto), ITEMS_PATH + "/" + itemId, REQUEST_PATH);
     }
 
-    public ResponseEntity<Object> addComment(Long userId, Long itemId, CommentCreate commentText) {
-        return post("/" + itemId + "/comment", userId, commentText);
+    public Mono<ResponseEntity<Object>> addComment(Long userId, Long itemId, CommentCreate commentText) {
+        return invalidating(post("/" + itemId + "/comment", userId, commentText), ITEMS_PATH + "/" + itemId);
     }
 }
@@ -1,9 +1,16 @@
 package ru.practicum.shareit.client;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.dto.ItemRequestCreate;
 
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
 import static ru.practicum.shareit.Util.EMPTY_PATH;
 import static ru.practicum.shareit.Util.REQUEST_PATH;
 
@@ -13,21 +20,69 @@ public class ItemRequestClient extends BaseClient {
         super(REQUEST_PATH);
     }
 
-    public ResponseEntity<Object> addItemRequest(ItemRequestCreate create, Long requestorId) {
+    public Mono<ResponseEntity<Object>> addItemRequest(ItemRequestCreate create, Long requestorId) {
+        return invalidating(post(EMPTY_PATH, requestorId, create), REQUEST_PATH);
+    }
 
-        return post(EMPTY_PATH, requestorId, create);
+    public Mono<ResponseEntity<Object>> getRequest(Long requestId) {
+        return cachedGet("/" + requestId, null);
     }
 
-    public ResponseEntity<Object> getRequest(Long requestId) {
-        return get("/" + requestId);
+    public Mono<ResponseEntity<Object>> getRequests(Long userId) {
+        return cachedGet(EMPTY_PATH, userId);
     }
 
-    public ResponseEntity<Object> getRequests(Long userId) {
-        return get(EMPTY_PATH, userId);
+    public Mono<ResponseEntity<Object>> getRequests(Long userId, Integer from, Integer size) {
+        if (from == null && size == null) {
+            return getRequests(userId);
+        }
+
+        return get(pageQuery(EMPTY_PATH, from, size), userId, pageParameters(from, size));
     }
 
-    public ResponseEntity<Object> getAllRequests() {
+    /**
+     * Все запросы без пагинации. Ответ не кэшируется: он содержит всю таблицу запросов,
+     * а емкость кэша ограничена числом записей, а не их размером.
+     */
+    public Mono<ResponseEntity<Object>> getAllRequests() {
         return get("/all");
     }
 
+    /**
+     * Все запросы построчно в формате NDJSON. Ответ сервера передается потоком и не кэшируется.
+     */
+    public ResponseEntity<StreamingResponseBody> exportAllRequests() throws IOException {
+        return stream("/all", MediaType.APPLICATION_NDJSON);
+    }
+
+    public Mono<ResponseEntity<Object>> getAllRequests(Integer from, Integer size) {
+        if (from == null && size == null) {
+            return getAllRequests();
+        }
+
+        return get(pageQuery("/all", from, size), null, pageParameters(from, size));
+    }
+
+    private static String pageQuery(String path, Integer from, Integer size) {
+        StringBuilder query = new StringBuilder(path);
+        String separator = "?";
+
+        if (from != null) {
+            query.append(separator).append("from={from}");
+            separator = "&";
+        }
+        if (size != null) {
+            query.append(separator).append("size={size}");
+        }
+
+        return query.toString();
+    }
+
+    private static Map<String, Object> pageParameters(Integer from, Integer size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("from", from);
+        parameters.put("size", size);
+        return parameters;
+    }
+
 }
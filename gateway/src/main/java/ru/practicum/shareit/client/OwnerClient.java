@@ -0,0 +1,19 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import static ru.practicum.shareit.Util.OWNERS_PATH;
+
+@Component
+public class OwnerClient extends BaseClient {
+
+    public OwnerClient() {
+        super(OWNERS_PATH);
+    }
+
+    public Mono<ResponseEntity<Object>> getDashboard(Long ownerId) {
+        return get("/me/dashboard", ownerId);
+    }
+}
@@ -2,6 +2,7 @@ package ru.practicum.shareit.client;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.dto.UserDto;
 
 import static ru.practicum.shareit.Util.EMPTY_PATH;
@@ -14,19 +15,19 @@ public class UserClient extends BaseClient {
         super(USERS_PATH);
     }
 
-    public ResponseEntity<Object> getUser(Long userId) {
-        return get("/" + userId);
+    public Mono<ResponseEntity<Object>> getUser(Long userId) {
+        return cachedGet("/" + userId, null);
     }
 
-    public ResponseEntity<Object> addUser(UserDto user) {
+    public Mono<ResponseEntity<Object>> addUser(UserDto user) {
         return post(EMPTY_PATH, user);
     }
 
-    public ResponseEntity<Object> updateUser(Long userId, UserDto user) {
-        return patch("/" + userId, user);
+    public Mono<ResponseEntity<Object>> updateUser(Long userId, UserDto user) {
+        return invalidating(patch("/" + userId, user), USERS_PATH + "/" + userId);
     }
 
-    public ResponseEntity<Object> deleteUser(Long userId) {
-        return delete("/" + userId);
+    public Mono<ResponseEntity<Object>> deleteUser(Long userId) {
+        return invalidatingAll(delete("/" + userId));
     }
 }
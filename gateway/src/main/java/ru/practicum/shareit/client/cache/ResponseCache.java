@@ -0,0 +1,174 @@
+package ru.practicum.shareit.client.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Кэш успешных ответов сервера на идемпотентные GET-запросы. Ключ - путь на сервере и, если запрос
+ * зависит от пользователя, его id. Записи вытесняются по размеру и времени жизни, а также сбрасываются
+ * клиентами после изменяющих запросов через {@link #invalidate(String)}.
+ * <p>
+ * Для сброса без перебора всего кэша каждый ключ записан в индекс под своим путем и под всеми
+ * родительскими: ответ {@code /items/1/comments} лежит в индексе под {@code /items/1/comments},
+ * {@code /items/1} и {@code /items}. Индекс меняется только внутри атомарной операции кэша над ключом,
+ * поэтому вытеснение, сброс и запись одного ключа не расходятся с индексом.
+ * Метрики публикуются как {@code cache.*} с тегом {@code cache=gateway.responses}.
+ */
+@Component
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCache {
+
+    static final String CACHE_NAME = "gateway.responses";
+
+    private final Cache<Key, ResponseEntity<Object>> cache;
+    private final Map<String, Set<Key>> keysByScope = new ConcurrentHashMap<>();
+    private final boolean enabled;
+
+    /**
+     * Увеличивается при каждом сбросе. Ответ, запрошенный до сброса, в кэш не попадает.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry registry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .evictionListener((Key key, ResponseEntity<Object> response, RemovalCause cause) -> unindex(key))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    public Mono<ResponseEntity<Object>> get(String path, @Nullable Long userId,
+                                            Supplier<Mono<ResponseEntity<Object>>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Key key = new Key(path, userId);
+        return Mono.defer(() -> {
+            ResponseEntity<Object> cached = cache.getIfPresent(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+
+            long observed = generation.get();
+            return loader.get().map(response -> store(key, observed, response));
+        });
+    }
+
+    /**
+     * Сбрасывает ответы по пути и всем вложенным путям: {@code /items/1} сбрасывает и {@code /items/1/...},
+     * но не {@code /items/10}.
+     */
+    public void invalidate(String path) {
+        generation.incrementAndGet();
+        Set<Key> keys = keysByScope.remove(path);
+        if (keys != null) {
+            keys.forEach(this::drop);
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.asMap().keySet().forEach(this::drop);
+    }
+
+    private ResponseEntity<Object> store(Key key, long observed, ResponseEntity<Object> response) {
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            return response;
+        }
+
+        ResponseEntity<Object> replayable = ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .body(replayableBody(response.getBody()));
+
+        if (generation.get() == observed) {
+            cache.asMap().compute(key, (k, previous) -> {
+                index(k);
+                return replayable;
+            });
+            if (generation.get() != observed) {
+                drop(key);
+            }
+        }
+        return replayable;
+    }
+
+    private void drop(Key key) {
+        cache.asMap().computeIfPresent(key, (k, response) -> {
+            unindex(k);
+            return null;
+        });
+    }
+
+    private void index(Key key) {
+        for (String scope : scopes(key.path())) {
+            keysByScope.compute(scope, (s, keys) -> {
+                Set<Key> scoped = keys != null ? keys : new HashSet<>();
+                scoped.add(key);
+                return scoped;
+            });
+        }
+    }
+
+    private void unindex(Key key) {
+        for (String scope : scopes(key.path())) {
+            keysByScope.computeIfPresent(scope, (s, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    /**
+     * Путь и все его родительские пути: {@code /items/1/comments}, {@code /items/1}, {@code /items}.
+     */
+    private static List<String> scopes(String path) {
+        List<String> scopes = new ArrayList<>();
+        for (int end = path.length(); end > 0; end = path.lastIndexOf('/', end - 1)) {
+            scopes.add(path.substring(0, end));
+        }
+        return scopes;
+    }
+
+    /**
+     * Поток ответа можно прочитать только один раз, поэтому для кэша он вычитывается в массив.
+     */
+    @Nullable
+    private static Object replayableBody(@Nullable Object body) {
+        if (!(body instanceof Resource resource)) {
+            return body;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Key(String path, @Nullable Long userId) {
+    }
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.client.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки кэша ответов сервера в шлюзе ({@code shareit.response-cache.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "shareit.response-cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Максимум ответов в кэше, лишние вытесняются.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Время жизни ответа с момента записи.
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+}
@@ -0,0 +1,63 @@
+package ru.practicum.shareit.client.transport;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * Блокирующая доставка через {@link RestTemplate}. Запрос выполняется в потоке обработчика шлюза
+ * в момент подписки, ответ сервера разбирается в дерево объектов и сериализуется заново.
+ */
+@Component
+@ConditionalOnProperty(name = "shareit-server.transport", havingValue = "blocking")
+public class BlockingServerTransport implements ServerTransport {
+
+    private final RestTemplate rest;
+
+    public BlockingServerTransport(RestTemplateBuilder builder, ClientHttpRequestFactory serverRequestFactory) {
+        this.rest = builder
+                .requestFactory(() -> serverRequestFactory)
+                .build();
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> exchange(HttpMethod method, URI uri, HttpHeaders headers,
+                                                 @Nullable Object body) {
+        return Mono.fromCallable(() -> send(method, uri, new HttpEntity<>(body, headers)));
+    }
+
+    private ResponseEntity<Object> send(HttpMethod method, URI uri, HttpEntity<Object> requestEntity) {
+        ResponseEntity<Object> shareitServerResponse;
+        try {
+            shareitServerResponse = rest.exchange(uri, method, requestEntity, Object.class);
+        } catch (HttpStatusCodeException e) {
+            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+        }
+        return prepareGatewayResponse(shareitServerResponse);
+    }
+
+    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
+        if (response.getStatusCode().is2xxSuccessful()) {
+            return response;
+        }
+
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
+
+        if (response.hasBody()) {
+            return responseBuilder.body(response.getBody());
+        }
+
+        return responseBuilder.build();
+    }
+}
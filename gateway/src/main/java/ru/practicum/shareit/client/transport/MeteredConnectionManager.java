@@ -0,0 +1,66 @@
+package ru.practicum.shareit.client.transport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.util.Timeout;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Пул соединений, который публикует свое состояние ({@code httpcomponents.httpclient.pool.*})
+ * и время ожидания соединения {@code httpcomponents.httpclient.pool.lease} с тегом {@code outcome}.
+ */
+public class MeteredConnectionManager extends PoolingHttpClientConnectionManager {
+
+    static final String POOL_NAME = "shareit-server";
+
+    private final Timer leaseSuccess;
+    private final Timer leaseTimeout;
+
+    public MeteredConnectionManager(MeterRegistry registry) {
+        this.leaseSuccess = leaseTimer(registry, "success");
+        this.leaseTimeout = leaseTimer(registry, "timeout");
+        new PoolingHttpClientConnectionManagerMetricsBinder(this, POOL_NAME).bindTo(registry);
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest request = super.lease(id, route, requestTimeout, state);
+        return new LeaseRequest() {
+            @Override
+            public ConnectionEndpoint get(Timeout timeout)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                long start = System.nanoTime();
+                try {
+                    ConnectionEndpoint endpoint = request.get(timeout);
+                    leaseSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    return endpoint;
+                } catch (TimeoutException e) {
+                    leaseTimeout.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    throw e;
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return request.cancel();
+            }
+        };
+    }
+
+    private static Timer leaseTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("httpcomponents.httpclient.pool.lease")
+                .description("Ожидание свободного соединения с сервером")
+                .tag("httpclient", POOL_NAME)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
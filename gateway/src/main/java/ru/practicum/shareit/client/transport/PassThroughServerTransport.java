@@ -0,0 +1,127 @@
+package ru.practicum.shareit.client.transport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Доставка без разбора ответа. Поток тела ответа сервера передается в ответ шлюза как {@link InputStreamResource}
+ * и копируется в выходной поток сервлета, соединение с сервером освобождается после копирования.
+ * Запрос выполняется в потоке обработчика шлюза в момент подписки.
+ * <p>
+ * Короткие тела с известной длиной (до {@code shareit-server.http-client.pass-through-buffer-limit})
+ * вычитываются в {@link ByteArrayResource} сразу, и соединение возвращается в пул еще до ответа шлюза.
+ * Если ответ с потоком отброшен, например подписка отменена раньше, чем он дошел до подписчика,
+ * поток закрывается и соединение тоже возвращается в пул.
+ */
+@Component
+@ConditionalOnProperty(name = "shareit-server.transport", havingValue = "passthrough")
+public class PassThroughServerTransport implements ServerTransport {
+
+    private final ClientHttpRequestFactory requestFactory;
+    private final ObjectMapper objectMapper;
+    private final long bufferLimit;
+
+    public PassThroughServerTransport(ClientHttpRequestFactory serverRequestFactory, ObjectMapper objectMapper,
+                                      ServerHttpClientProperties properties) {
+        this.requestFactory = serverRequestFactory;
+        this.objectMapper = objectMapper;
+        this.bufferLimit = properties.getPassThroughBufferLimit().toBytes();
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> exchange(HttpMethod method, URI uri, HttpHeaders headers,
+                                                 @Nullable Object body) {
+        return Mono.fromCallable(() -> send(method, uri, headers, body))
+                .doOnDiscard(ResponseEntity.class, PassThroughServerTransport::release);
+    }
+
+    private ResponseEntity<Object> send(HttpMethod method, URI uri, HttpHeaders headers,
+                                        @Nullable Object body) throws IOException {
+        ClientHttpRequest request = requestFactory.createRequest(uri, method);
+        request.getHeaders().addAll(headers);
+        if (body != null) {
+            request.getBody().write(objectMapper.writeValueAsBytes(body));
+        }
+
+        ClientHttpResponse response = request.execute();
+        try {
+            ResponseEntity.BodyBuilder builder = ResponseEntity.status(response.getStatusCode())
+                    .headers(ProxyHeaders.forward(response.getHeaders()));
+
+            long length = response.getHeaders().getContentLength();
+            if (length >= 0 && length <= bufferLimit) {
+                byte[] bytes = response.getBody().readAllBytes();
+                response.close();
+                return builder.body(new ByteArrayResource(bytes));
+            }
+            return builder.body(new ResponseBodyResource(new ResponseBodyStream(response)));
+        } catch (IOException | RuntimeException e) {
+            response.close();
+            throw e;
+        }
+    }
+
+    private static void release(ResponseEntity<?> response) {
+        if (response.getBody() instanceof ResponseBodyResource resource) {
+            resource.release();
+        }
+    }
+
+    /**
+     * Непрочитанное тело ответа сервера. Закрывается, если ответ шлюза так и не был записан.
+     */
+    private static class ResponseBodyResource extends InputStreamResource {
+
+        private final ResponseBodyStream stream;
+
+        ResponseBodyResource(ResponseBodyStream stream) {
+            super(stream);
+            this.stream = stream;
+        }
+
+        void release() {
+            try {
+                stream.close();
+            } catch (IOException ignored) {
+                // ошибку закрытия некому передать: ответ уже отброшен
+            }
+        }
+    }
+
+    /**
+     * Тело ответа сервера, которое при закрытии возвращает соединение в пул клиента.
+     */
+    private static class ResponseBodyStream extends FilterInputStream {
+
+        private final ClientHttpResponse response;
+
+        ResponseBodyStream(ClientHttpResponse response) throws IOException {
+            super(response.getBody());
+            this.response = response;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                response.close();
+            }
+        }
+    }
+}
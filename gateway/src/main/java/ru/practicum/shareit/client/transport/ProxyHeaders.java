@@ -0,0 +1,46 @@
+package ru.practicum.shareit.client.transport;
+
+import org.springframework.http.HttpHeaders;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Отбор заголовков ответа сервера, которые можно передать клиенту шлюза как есть.
+ */
+public class ProxyHeaders {
+
+    /**
+     * Заголовки одного соединения (RFC 9110, раздел 7.6.1) и длина тела, которую пересчитывает сам шлюз.
+     */
+    private static final Set<String> EXCLUDED = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        EXCLUDED.addAll(Set.of(
+                HttpHeaders.CONNECTION,
+                "Keep-Alive",
+                HttpHeaders.PROXY_AUTHENTICATE,
+                HttpHeaders.PROXY_AUTHORIZATION,
+                HttpHeaders.TE,
+                HttpHeaders.TRAILER,
+                HttpHeaders.TRANSFER_ENCODING,
+                HttpHeaders.UPGRADE,
+                HttpHeaders.CONTENT_LENGTH
+        ));
+    }
+
+    private ProxyHeaders() {
+    }
+
+    public static HttpHeaders forward(HttpHeaders upstream) {
+        HttpHeaders headers = new HttpHeaders();
+
+        upstream.forEach((name, values) -> {
+            if (!EXCLUDED.contains(name)) {
+                headers.addAll(name, values);
+            }
+        });
+
+        return headers;
+    }
+}
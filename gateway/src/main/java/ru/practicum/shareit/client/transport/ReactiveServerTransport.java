@@ -0,0 +1,47 @@
+package ru.practicum.shareit.client.transport;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * Неблокирующая доставка через {@link WebClient}. Тело ответа сервера передается клиенту
+ * байтами без разбора JSON, вместе со статусом и заголовками ответа.
+ */
+@Component
+@ConditionalOnProperty(name = "shareit-server.transport", havingValue = "reactive", matchIfMissing = true)
+public class ReactiveServerTransport implements ServerTransport {
+
+    private final WebClient webClient;
+
+    public ReactiveServerTransport(WebClient.Builder builder) {
+        this.webClient = builder.build();
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> exchange(HttpMethod method, URI uri, HttpHeaders headers,
+                                                 @Nullable Object body) {
+        WebClient.RequestBodySpec request = webClient.method(method)
+                .uri(uri)
+                .headers(h -> h.addAll(headers));
+
+        return (body == null ? request : request.bodyValue(body))
+                .exchangeToMono(response -> response.bodyToMono(byte[].class)
+                        .map(bytes -> toEntity(response, bytes))
+                        .defaultIfEmpty(toEntity(response, null)));
+    }
+
+    private static ResponseEntity<Object> toEntity(ClientResponse response, @Nullable byte[] body) {
+        return ResponseEntity.status(response.statusCode())
+                .headers(ProxyHeaders.forward(response.headers().asHttpHeaders()))
+                .body(body);
+    }
+}
@@ -0,0 +1,89 @@
+package ru.practicum.shareit.client.transport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Общие пулы соединений с сервером: Apache HttpClient для блокирующих транспортов
+ * и reactor-netty для {@link ReactiveServerTransport}. Оба настраиваются из {@link ServerHttpClientProperties}
+ * и публикуют метрики пула.
+ */
+@Configuration
+@EnableConfigurationProperties(ServerHttpClientProperties.class)
+public class ServerHttpClientConfig {
+
+    @Bean
+    public MeteredConnectionManager serverConnectionManager(ServerHttpClientProperties properties,
+                                                            MeterRegistry registry) {
+        MeteredConnectionManager connectionManager = new MeteredConnectionManager(registry);
+        connectionManager.setMaxTotal(properties.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(properties.getMaxPerRoute());
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(timeout(properties.getConnectTimeout()))
+                .setSocketTimeout(timeout(properties.getResponseTimeout()))
+                .setValidateAfterInactivity(timeValue(properties.getValidateAfterInactivity()))
+                .build());
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient serverHttpClient(MeteredConnectionManager connectionManager,
+                                                ServerHttpClientProperties properties) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(timeout(properties.getLeaseTimeout()))
+                        .setResponseTimeout(timeout(properties.getResponseTimeout()))
+                        .setConnectionKeepAlive(timeValue(properties.getKeepAlive()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(timeValue(properties.getMaxIdleTime()))
+                .build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory serverRequestFactory(CloseableHttpClient serverHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(serverHttpClient);
+    }
+
+    @Bean
+    public ClientHttpConnector serverHttpConnector(ServerHttpClientProperties properties) {
+        ConnectionProvider provider = ConnectionProvider.builder(MeteredConnectionManager.POOL_NAME)
+                .maxConnections(properties.getMaxTotal())
+                .pendingAcquireTimeout(properties.getLeaseTimeout())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .evictInBackground(properties.getMaxIdleTime())
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getResponseTimeout());
+        return new ReactorClientHttpConnector(httpClient);
+    }
+
+    private static Timeout timeout(Duration duration) {
+        return Timeout.of(duration);
+    }
+
+    private static TimeValue timeValue(Duration duration) {
+        return TimeValue.of(duration);
+    }
+}
@@ -0,0 +1,62 @@
+package ru.practicum.shareit.client.transport;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Настройки общего пула соединений шлюза с сервером ({@code shareit-server.http-client.*}).
+ * Пул один на все клиенты и транспорты.
+ */
+@Data
+@ConfigurationProperties(prefix = "shareit-server.http-client")
+public class ServerHttpClientProperties {
+
+    /**
+     * Всего соединений в пуле.
+     */
+    private int maxTotal = 200;
+
+    /**
+     * Соединений на один адрес. Шлюз ходит только на сервер, поэтому по умолчанию совпадает с {@link #maxTotal}.
+     */
+    private int maxPerRoute = 200;
+
+    /**
+     * Установка TCP-соединения.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Ожидание ответа сервера.
+     */
+    private Duration responseTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Ожидание свободного соединения в пуле.
+     */
+    private Duration leaseTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Сколько держать соединение открытым между запросами, если сервер не прислал Keep-Alive.
+     */
+    private Duration keepAlive = Duration.ofSeconds(30);
+
+    /**
+     * Простаивающие дольше этого соединения закрываются фоновой очисткой.
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    /**
+     * Соединение, простоявшее дольше этого, проверяется перед выдачей из пула.
+     */
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+    /**
+     * Тела ответов не длиннее этого сквозная доставка вычитывает сразу и возвращает соединение в пул
+     * до ответа шлюза. Более длинные и тела без Content-Length передаются потоком.
+     */
+    private DataSize passThroughBufferLimit = DataSize.ofKilobytes(8);
+}
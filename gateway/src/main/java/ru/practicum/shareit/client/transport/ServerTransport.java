@@ -0,0 +1,28 @@
+package ru.practicum.shareit.client.transport;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * Способ доставки запроса шлюза на сервер ShareIt.
+ * Реализация выбирается свойством {@code shareit-server.transport}.
+ */
+public interface ServerTransport {
+
+    /**
+     * Отправляет запрос на сервер и возвращает его ответ с тем же статусом.
+     * Ошибочные статусы сервера возвращаются как ответ, а не как исключение.
+     *
+     * @param method  HTTP метод
+     * @param uri     полный адрес на сервере
+     * @param headers заголовки запроса
+     * @param body    тело запроса или {@code null}
+     * @return ответ сервера
+     */
+    Mono<ResponseEntity<Object>> exchange(HttpMethod method, URI uri, HttpHeaders headers, @Nullable Object body);
+}
@@ -1,14 +1,22 @@
 package ru.practicum.shareit.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BookingClient;
 import ru.practicum.shareit.dto.BookingDto;
 import ru.practicum.shareit.dto.BookingState;
 
+import java.util.List;
+
+import static ru.practicum.shareit.Util.MAX_BATCH_SIZE;
+import static ru.practicum.shareit.Util.MAX_PAGE_SIZE;
 import static ru.practicum.shareit.Util.USER_ID_HEADER;
 
 @RestController
@@ -19,14 +27,22 @@ public class BookingController {
     private final BookingClient client;
 
     @PostMapping
-    public ResponseEntity<Object> createBooking(@RequestHeader(USER_ID_HEADER) @Positive Long userId,
-                                                @Valid @RequestBody BookingDto bookingDto) {
+    public Mono<ResponseEntity<Object>> createBooking(@RequestHeader(USER_ID_HEADER) @Positive Long userId,
+                                                      @Valid @RequestBody BookingDto bookingDto) {
 
         return client.createBooking(userId, bookingDto);
     }
 
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Object>> createBookings(
+            @RequestHeader(USER_ID_HEADER) @Positive Long userId,
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@Valid BookingDto> bookingDtos) {
+
+        return client.createBookings(userId, bookingDtos);
+    }
+
     @PatchMapping("/{bookingId}")
-    public ResponseEntity<Object> updateBookingStatus(
+    public Mono<ResponseEntity<Object>> updateBookingStatus(
             @RequestHeader(USER_ID_HEADER) @Positive Long userId,
             @PathVariable @Positive Long bookingId,
             @RequestParam Boolean approved) {
@@ -35,7 +51,7 @@ public class BookingController {
     }
 
     @GetMapping("/{bookingId}")
-    public ResponseEntity<Object> getBooking(
+    public Mono<ResponseEntity<Object>> getBooking(
             @RequestHeader(USER_ID_HEADER) @Positive Long userId,
             @PathVariable @Positive Long bookingId) {
 
@@ -43,18 +59,22 @@ public class BookingController {
     }
 
     @GetMapping
-    public ResponseEntity<Object> findByBookerAndState(
+    public Mono<ResponseEntity<Object>> findByBookerAndState(
             @RequestHeader(USER_ID_HEADER) @Positive Long bookerId,
-            @RequestParam(defaultValue = "ALL") BookingState state) {
+            @RequestParam(defaultValue = "ALL") BookingState state,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) @Positive @Max(MAX_PAGE_SIZE) Integer size) {
 
-        return client.findByBookerAndState(bookerId, state);
+        return client.findByBookerAndState(bookerId, state, cursor, size);
     }
 
     @GetMapping("/owner")
-    public ResponseEntity<Object> findByOwnerAndState(
+    public Mono<ResponseEntity<Object>> findByOwnerAndState(
             @RequestHeader(USER_ID_HEADER) @Positive Long ownerId,
-            @RequestParam(defaultValue = "ALL") BookingState state) {
+            @RequestParam(defaultValue = "ALL") BookingState state,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) @Positive @Max(MAX_PAGE_SIZE) Integer size) {
 
-        return client.findByOwnerAndState(ownerId, state);
+        return client.findByOwnerAndState(ownerId, state, cursor, size);
     }
 }
@@ -1,16 +1,26 @@
 package ru.practicum.shareit.controller;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.OnCreate;
 import ru.practicum.shareit.OnUpdate;
 import ru.practicum.shareit.client.ItemClient;
 import ru.practicum.shareit.dto.CommentCreate;
 import ru.practicum.shareit.dto.ItemDto;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static ru.practicum.shareit.Util.MAX_PAGE_SIZE;
 import static ru.practicum.shareit.Util.USER_ID_HEADER;
 
 @RestController
@@ -20,29 +30,53 @@ public class ItemController {
     private final ItemClient client;
 
     @GetMapping("/{itemId}")
-    public ResponseEntity<Object> getItem(@PathVariable @Positive Long itemId) {
+    public Mono<ResponseEntity<Object>> getItem(@PathVariable @Positive Long itemId) {
         return client.getItem(itemId);
     }
 
+    @GetMapping("/{itemId}/availability")
+    public Mono<ResponseEntity<Object>> getAvailability(
+            @PathVariable @Positive Long itemId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return client.getAvailability(itemId, from, to);
+    }
+
+    @GetMapping("/{itemId}/comments")
+    public Mono<ResponseEntity<Object>> getComments(
+            @PathVariable @Positive Long itemId,
+            @RequestParam(defaultValue = "0") @PositiveOrZero Integer from,
+            @RequestParam(defaultValue = "20") @Positive @Max(MAX_PAGE_SIZE) Integer size) {
+        return client.getComments(itemId, from, size);
+    }
+
+    @GetMapping(params = "ids")
+    public Mono<ResponseEntity<Object>> getItemsByIds(
+            @RequestParam @NotEmpty @Size(max = MAX_PAGE_SIZE) List<@Positive Long> ids) {
+        return client.getItemsByIds(ids);
+    }
+
     @GetMapping("/search")
-    public ResponseEntity<Object> searchItems(@RequestParam String text) {
-        return client.searchItems(text);
+    public Mono<ResponseEntity<Object>> searchItems(
+            @RequestParam String text,
+            @RequestParam(defaultValue = "20") @Positive @Max(MAX_PAGE_SIZE) Integer size) {
+        return client.searchItems(text, size);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getItems(@RequestHeader(USER_ID_HEADER) @Positive Long userId) {
+    public Mono<ResponseEntity<Object>> getItems(@RequestHeader(USER_ID_HEADER) @Positive Long userId) {
         return client.getItems(userId);
     }
 
     @PostMapping
-    public ResponseEntity<Object> addItem(
+    public Mono<ResponseEntity<Object>> addItem(
             @RequestHeader(USER_ID_HEADER) @Positive Long userId,
             @RequestBody @Validated(OnCreate.class) ItemDto itemDto) {
         return client.addItem(userId, itemDto);
     }
 
     @PatchMapping("/{itemId}")
-    public ResponseEntity<Object> updateItem(
+    public Mono<ResponseEntity<Object>> updateItem(
             @RequestHeader(USER_ID_HEADER) @Positive Long userId,
             @PathVariable @Positive Long itemId,
             @RequestBody @Validated(OnUpdate.class) ItemDto itemDto) {
@@ -50,9 +84,9 @@ public class ItemController {
     }
 
     @PostMapping("/{itemId}/comment")
-    public ResponseEntity<Object> addComment(@RequestHeader(USER_ID_HEADER) @Positive Long userId,
-                                             @PathVariable @Positive Long itemId,
-                                             @RequestBody CommentCreate commentText) {
+    public Mono<ResponseEntity<Object>> addComment(@RequestHeader(USER_ID_HEADER) @Positive Long userId,
+                                                   @PathVariable @Positive Long itemId,
+                                                   @RequestBody CommentCreate commentText) {
 
         return client.addComment(userId, itemId, commentText);
     }
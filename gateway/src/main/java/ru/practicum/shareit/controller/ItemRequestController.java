@@ -1,13 +1,20 @@
 package ru.practicum.shareit.controller;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.ItemRequestClient;
 import ru.practicum.shareit.dto.ItemRequestCreate;
 
+import java.io.IOException;
 
+import static ru.practicum.shareit.Util.MAX_PAGE_SIZE;
 import static ru.practicum.shareit.Util.USER_ID_HEADER;
 
 @RestController
@@ -18,23 +25,33 @@ public class ItemRequestController {
     private final ItemRequestClient itemRequestClient;
 
     @PostMapping
-    public ResponseEntity<Object> addItemRequest(@RequestHeader(name = USER_ID_HEADER) Long requestorId,
-                                                 @RequestBody ItemRequestCreate itemRequestCreate) {
+    public Mono<ResponseEntity<Object>> addItemRequest(@RequestHeader(name = USER_ID_HEADER) Long requestorId,
+                                                       @RequestBody ItemRequestCreate itemRequestCreate) {
         return itemRequestClient.addItemRequest(itemRequestCreate, requestorId);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getRequests(@RequestHeader(name = USER_ID_HEADER) @Positive Long userId) {
-        return itemRequestClient.getRequests(userId);
+    public Mono<ResponseEntity<Object>> getRequests(
+            @RequestHeader(name = USER_ID_HEADER) @Positive Long userId,
+            @RequestParam(required = false) @PositiveOrZero Integer from,
+            @RequestParam(required = false) @Positive @Max(MAX_PAGE_SIZE) Integer size) {
+        return itemRequestClient.getRequests(userId, from, size);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> getAllRequests() {
-        return itemRequestClient.getAllRequests();
+    public Mono<ResponseEntity<Object>> getAllRequests(
+            @RequestParam(required = false) @PositiveOrZero Integer from,
+            @RequestParam(required = false) @Positive @Max(MAX_PAGE_SIZE) Integer size) {
+        return itemRequestClient.getAllRequests(from, size);
+    }
+
+    @GetMapping(value = "/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAllRequests() throws IOException {
+        return itemRequestClient.exportAllRequests();
     }
 
     @GetMapping("/{requestId}")
-    public ResponseEntity<Object> getRequest(@PathVariable @Positive Long requestId) {
+    public Mono<ResponseEntity<Object>> getRequest(@PathVariable @Positive Long requestId) {
         return itemRequestClient.getRequest(requestId);
     }
 }
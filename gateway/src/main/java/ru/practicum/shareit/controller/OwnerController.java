@@ -0,0 +1,23 @@
+package ru.practicum.shareit.controller;
+
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.OwnerClient;
+
+import static ru.practicum.shareit.Util.USER_ID_HEADER;
+
+@RestController
+@RequestMapping(path = "/owners")
+@RequiredArgsConstructor
+public class OwnerController {
+
+    private final OwnerClient client;
+
+    @GetMapping("/me/dashboard")
+    public Mono<ResponseEntity<Object>> getDashboard(@RequestHeader(USER_ID_HEADER) @Positive Long ownerId) {
+        return client.getDashboard(ownerId);
+    }
+}
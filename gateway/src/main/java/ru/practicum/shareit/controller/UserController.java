@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.OnCreate;
 import ru.practicum.shareit.OnUpdate;
 import ru.practicum.shareit.client.UserClient;
@@ -18,24 +19,24 @@ public class UserController {
     private final UserClient client;
 
     @GetMapping("/{userId}")
-    public ResponseEntity<Object> getUser(@PathVariable @Positive Long userId) {
+    public Mono<ResponseEntity<Object>> getUser(@PathVariable @Positive Long userId) {
         return client.getUser(userId);
     }
 
     @PostMapping
-    public ResponseEntity<Object> addUser(@RequestBody @Validated(OnCreate.class) UserDto user) {
+    public Mono<ResponseEntity<Object>> addUser(@RequestBody @Validated(OnCreate.class) UserDto user) {
         return client.addUser(user);
     }
 
     @PatchMapping("/{userId}")
-    public ResponseEntity<Object> updateUser(
+    public Mono<ResponseEntity<Object>> updateUser(
             @PathVariable @Positive Long userId,
             @RequestBody @Validated(OnUpdate.class) UserDto user) {
         return client.updateUser(userId, user);
     }
 
     @DeleteMapping("/{userId}")
-    public ResponseEntity<Object> deleteUser(@PathVariable @Positive Long userId) {
+    public Mono<ResponseEntity<Object>> deleteUser(@PathVariable @Positive Long userId) {
         return client.deleteUser(userId);
     }
 }
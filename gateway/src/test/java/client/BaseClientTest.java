@@ -0,0 +1,74 @@
+package client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.cache.ResponseCache;
+import ru.practicum.shareit.client.cache.ResponseCacheProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BaseClientTest {
+
+    private final ResponseCache cache = new ResponseCache(new ResponseCacheProperties(), new SimpleMeterRegistry());
+    private final TestClient client = new TestClient();
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(client, "responseCache", cache);
+        cache.get("/items/1", null, () -> Mono.just(ResponseEntity.ok("old"))).block();
+    }
+
+    @Test
+    public void invalidatingShouldDropCachedResponseBeforeWriteResultIsEmitted() {
+        Object seen = client.invalidating(Mono.just(ResponseEntity.ok("updated")), "/items/1")
+                .map(response -> cachedBody())
+                .block();
+
+        assertThat(seen).isEqualTo("new");
+    }
+
+    @Test
+    public void invalidatingShouldDropCachedResponseBeforeWriteErrorIsEmitted() {
+        Object seen = client.invalidating(Mono.error(new IllegalStateException()), "/items/1")
+                .onErrorResume(e -> Mono.fromSupplier(() -> ResponseEntity.ok(cachedBody())))
+                .map(ResponseEntity::getBody)
+                .block();
+
+        assertThat(seen).isEqualTo("new");
+    }
+
+    @Test
+    public void invalidatingAllShouldDropCachedResponsesBeforeWriteResultIsEmitted() {
+        Object seen = client.invalidatingAll(Mono.just(ResponseEntity.ok("deleted")))
+                .map(response -> cachedBody())
+                .block();
+
+        assertThat(seen).isEqualTo("new");
+    }
+
+    private Object cachedBody() {
+        return cache.get("/items/1", null, () -> Mono.just(ResponseEntity.ok("new"))).block().getBody();
+    }
+
+    private static class TestClient extends BaseClient {
+
+        TestClient() {
+            super("/items");
+        }
+
+        @Override
+        protected Mono<ResponseEntity<Object>> invalidating(Mono<ResponseEntity<Object>> write, String... paths) {
+            return super.invalidating(write, paths);
+        }
+
+        @Override
+        protected Mono<ResponseEntity<Object>> invalidatingAll(Mono<ResponseEntity<Object>> write) {
+            return super.invalidatingAll(write);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ItemRequestClient;
+import ru.practicum.shareit.client.cache.ResponseCache;
+import ru.practicum.shareit.client.cache.ResponseCacheProperties;
+import ru.practicum.shareit.client.transport.MeteredConnectionManager;
+import ru.practicum.shareit.client.transport.ServerHttpClientConfig;
+import ru.practicum.shareit.client.transport.ServerHttpClientProperties;
+import ru.practicum.shareit.client.transport.ServerTransport;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpMethod.GET;
+
+public class ItemRequestClientTest {
+
+    private static final String NDJSON = "{\"id\":2}\n{\"id\":1}\n";
+
+    private final ServerHttpClientConfig clientConfig = new ServerHttpClientConfig();
+    private final ServerTransport transport = mock(ServerTransport.class);
+    private final ItemRequestClient client = new ItemRequestClient();
+
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+    private MeteredConnectionManager connectionManager;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/requests/all", exchange -> {
+            boolean ndjson = MediaType.APPLICATION_NDJSON_VALUE.equals(exchange.getRequestHeaders().getFirst("Accept"));
+            exchange.getResponseHeaders().add("Content-Type", MediaType.APPLICATION_NDJSON_VALUE);
+            exchange.sendResponseHeaders(ndjson ? 200 : 406, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(NDJSON.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        server.start();
+
+        ServerHttpClientProperties properties = new ServerHttpClientProperties();
+        connectionManager = clientConfig.serverConnectionManager(properties, new SimpleMeterRegistry());
+        httpClient = clientConfig.serverHttpClient(connectionManager, properties);
+
+        ReflectionTestUtils.setField(client, "serverUrl", "http://localhost:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(client, "transport", transport);
+        ReflectionTestUtils.setField(client, "serverRequestFactory", clientConfig.serverRequestFactory(httpClient));
+        ReflectionTestUtils.setField(client, "responseCache",
+                new ResponseCache(new ResponseCacheProperties(), new SimpleMeterRegistry()));
+        client.init();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void shouldNotCacheUnpagedAllRequests() {
+        when(transport.exchange(any(), any(), any(), any())).thenReturn(Mono.just(ResponseEntity.ok("[]")));
+
+        client.getAllRequests().block();
+        client.getAllRequests().block();
+
+        verify(transport, times(2)).exchange(eq(GET), any(), any(), any());
+    }
+
+    @Test
+    public void shouldStreamExportPastTransportAndReleaseConnection() throws IOException {
+        ResponseEntity<StreamingResponseBody> response = client.exportAllRequests();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        assertThat(connectionManager.getTotalStats().getLeased()).isEqualTo(1);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(NDJSON);
+        assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+        verify(transport, never()).exchange(any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,136 @@
+package client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.cache.ResponseCache;
+import ru.practicum.shareit.client.cache.ResponseCacheProperties;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResponseCacheTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final ResponseCache cache = new ResponseCache(new ResponseCacheProperties(), registry);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    public void shouldServeRepeatedGetFromCache() {
+        Supplier<Mono<ResponseEntity<Object>>> loader = counting(ResponseEntity.ok("item"));
+
+        cache.get("/items/1", null, loader).block();
+        ResponseEntity<Object> response = cache.get("/items/1", null, loader).block();
+
+        assertThat(response.getBody()).isEqualTo("item");
+        assertThat(calls).hasValue(1);
+        assertThat(registry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldKeepResponsesOfDifferentUsersApart() {
+        cache.get("/requests", 1L, counting(ResponseEntity.ok("first"))).block();
+        ResponseEntity<Object> response = cache.get("/requests", 2L, counting(ResponseEntity.ok("second"))).block();
+
+        assertThat(response.getBody()).isEqualTo("second");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    public void shouldNotCacheErrorResponses() {
+        Supplier<Mono<ResponseEntity<Object>>> loader = counting(ResponseEntity.status(404).body("not found"));
+
+        cache.get("/users/1", null, loader).block();
+        cache.get("/users/1", null, loader).block();
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    public void invalidateShouldDropPathAndNestedPathsOnly() {
+        Supplier<Mono<ResponseEntity<Object>>> loader = counting(ResponseEntity.ok("body"));
+        cache.get("/requests", 1L, loader).block();
+        cache.get("/requests/all", null, loader).block();
+        cache.get("/items/1", null, loader).block();
+        cache.get("/items/10", null, loader).block();
+
+        cache.invalidate("/requests");
+        cache.invalidate("/items/1");
+
+        cache.get("/requests", 1L, loader).block();
+        cache.get("/requests/all", null, loader).block();
+        cache.get("/items/1", null, loader).block();
+        cache.get("/items/10", null, loader).block();
+        assertThat(calls).hasValue(7);
+    }
+
+    @Test
+    public void invalidateShouldDropResponsesCachedAgainAfterPreviousInvalidation() {
+        Supplier<Mono<ResponseEntity<Object>>> loader = counting(ResponseEntity.ok("body"));
+        cache.get("/items/1", 1L, loader).block();
+        cache.invalidate("/items");
+        cache.get("/items/1", 1L, loader).block();
+        cache.get("/items/1", 2L, loader).block();
+
+        cache.invalidate("/items/1");
+
+        cache.get("/items/1", 1L, loader).block();
+        cache.get("/items/1", 2L, loader).block();
+        assertThat(calls).hasValue(5);
+    }
+
+    @Test
+    public void invalidateAllShouldDropEveryResponse() {
+        Supplier<Mono<ResponseEntity<Object>>> loader = counting(ResponseEntity.ok("body"));
+        cache.get("/requests", 1L, loader).block();
+        cache.get("/items/1", null, loader).block();
+
+        cache.invalidateAll();
+
+        cache.get("/requests", 1L, loader).block();
+        cache.get("/items/1", null, loader).block();
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    public void shouldNotStoreResponseLoadedBeforeInvalidation() {
+        Supplier<Mono<ResponseEntity<Object>>> staleLoader = () -> Mono.fromCallable(() -> {
+            calls.incrementAndGet();
+            cache.invalidate("/users/1");
+            return ResponseEntity.ok("stale");
+        });
+
+        cache.get("/users/1", null, staleLoader).block();
+        ResponseEntity<Object> response = cache.get("/users/1", null, counting(ResponseEntity.ok("fresh"))).block();
+
+        assertThat(response.getBody()).isEqualTo("fresh");
+    }
+
+    @Test
+    public void shouldBufferStreamedBodyBeforeCaching() {
+        byte[] json = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+        Supplier<Mono<ResponseEntity<Object>>> loader =
+                () -> Mono.just(ResponseEntity.ok(new InputStreamResource(new ByteArrayInputStream(json))));
+
+        ResponseEntity<Object> first = cache.get("/items/1", null, loader).block();
+        ResponseEntity<Object> second = cache.get("/items/1", null, loader).block();
+
+        assertThat(first.getBody()).isEqualTo(json);
+        assertThat(second.getBody()).isEqualTo(json);
+    }
+
+    private Supplier<Mono<ResponseEntity<Object>>> counting(ResponseEntity<Object> response) {
+        return () -> Mono.fromCallable(() -> {
+            calls.incrementAndGet();
+            return response;
+        });
+    }
+}
@@ -0,0 +1,278 @@
+package client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+import ru.practicum.shareit.client.transport.BlockingServerTransport;
+import ru.practicum.shareit.client.transport.MeteredConnectionManager;
+import ru.practicum.shareit.client.transport.PassThroughServerTransport;
+import ru.practicum.shareit.client.transport.ReactiveServerTransport;
+import ru.practicum.shareit.client.transport.ServerHttpClientConfig;
+import ru.practicum.shareit.client.transport.ServerHttpClientProperties;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ServerTransportTest {
+
+    private static final String JSON = "{\"id\":1,\"name\":\"item\"}";
+    private static final String LARGE_JSON = "{\"description\":\"" + "a".repeat(16 * 1024) + "\"}";
+
+    private final ServerHttpClientConfig clientConfig = new ServerHttpClientConfig();
+    private final ServerHttpClientProperties clientProperties = new ServerHttpClientProperties();
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private HttpServer server;
+    private URI baseUri;
+    private CloseableHttpClient httpClient;
+    private ClientHttpRequestFactory requestFactory;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/items/1", exchange -> respond(exchange, 200, JSON));
+        server.createContext("/items/large", exchange -> respond(exchange, 200, LARGE_JSON));
+        server.createContext("/items/slow", exchange -> {
+            sleep(300);
+            respond(exchange, 200, LARGE_JSON);
+        });
+        server.createContext("/items/404", exchange -> respond(exchange, 404, "{\"error\":\"not found\"}"));
+        server.createContext("/echo", exchange -> {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("X-Sharer-User-Id",
+                    exchange.getRequestHeaders().getFirst("X-Sharer-User-Id"));
+            respond(exchange, 201, new String(body, StandardCharsets.UTF_8));
+        });
+        server.start();
+        baseUri = URI.create("http://localhost:" + server.getAddress().getPort());
+
+        MeteredConnectionManager connectionManager = clientConfig.serverConnectionManager(clientProperties, registry);
+        httpClient = clientConfig.serverHttpClient(connectionManager, clientProperties);
+        requestFactory = clientConfig.serverRequestFactory(httpClient);
+    }
+
+    @AfterEach
+    public void stopServer() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void reactiveTransportShouldPassBodyBytesThrough() {
+        ReactiveServerTransport transport = new ReactiveServerTransport(WebClient.builder());
+
+        ResponseEntity<Object> response = transport
+                .exchange(HttpMethod.GET, baseUri.resolve("/items/1"), jsonHeaders(), null)
+                .block();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders().getFirst("X-Next-Cursor")).isEqualTo("abc");
+        assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_LENGTH)).isFalse();
+        assertThat(response.getBody()).isEqualTo(JSON.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void reactiveTransportShouldReturnErrorStatusAsResponse() {
+        ReactiveServerTransport transport = new ReactiveServerTransport(WebClient.builder());
+
+        ResponseEntity<Object> response = transport
+                .exchange(HttpMethod.GET, baseUri.resolve("/items/404"), jsonHeaders(), null)
+                .block();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8)).contains("not found");
+    }
+
+    @Test
+    public void reactiveTransportShouldSendHeadersAndBody() {
+        ReactiveServerTransport transport = new ReactiveServerTransport(WebClient.builder());
+        HttpHeaders headers = jsonHeaders();
+        headers.set("X-Sharer-User-Id", "7");
+
+        ResponseEntity<Object> response = transport
+                .exchange(HttpMethod.POST, baseUri.resolve("/echo"), headers, new Name("item"))
+                .block();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getHeaders().getFirst("X-Sharer-User-Id")).isEqualTo("7");
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"item\"}");
+    }
+
+    @Test
+    public void blockingTransportShouldReturnErrorStatusAsResponse() {
+        BlockingServerTransport transport = new BlockingServerTransport(new RestTemplateBuilder(), requestFactory);
+
+        ResponseEntity<Object> response = transport
+                .exchange(HttpMethod.GET, baseUri.resolve("/items/404"), jsonHeaders(), null)
+                .block();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    public void passThroughTransportShouldStreamBodyWithHeaders() throws IOException {
+        PassThroughServerTransport transport = passThrough();
+
+        ResponseEntity<Object> response = transport
+                .exchange(HttpMethod.GET, baseUri.resolve("/items/large"), jsonHeaders(), null)
+                .block();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders().getFirst("X-Next-Cursor")).isEqualTo("abc");
+        assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_LENGTH)).isFalse();
+        assertThat(response.getBody()).isInstanceOf(InputStreamResource.class);
+        assertThat(leasedConnections()).isEqualTo(1);
+        assertThat(readBody(response)).isEqualTo(LARGE_JSON);
+        assertThat(leasedConnections()).isZero();
+    }
+
+    @Test
+    public void passThroughTransportShouldBufferShortBodyAndReleaseConnection() throws IOException {
+        PassThroughServerTransport transport = passThrough();
+
+        ResponseEntity<Object> response = transport
+                .exchange(HttpMethod.GET, baseUri.resolve("/items/1"), jsonHeaders(), null)
+                .block();
+
+        assertThat(leasedConnections()).isZero();
+        assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_LENGTH)).isFalse();
+        assertThat(response.getBody()).isExactlyInstanceOf(ByteArrayResource.class);
+        assertThat(readBody(response)).isEqualTo(JSON);
+    }
+
+    @Test
+    public void passThroughTransportShouldReleaseConnectionWhenCancelledBeforeBodyIsRead()
+            throws InterruptedException {
+        PassThroughServerTransport transport = passThrough();
+
+        Disposable subscription = transport
+                .exchange(HttpMethod.GET, baseUri.resolve("/items/slow"), jsonHeaders(), null)
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe();
+        Thread.sleep(100);
+        subscription.dispose();
+
+        Timer lease = registry.get("httpcomponents.httpclient.pool.lease").tag("outcome", "success").timer();
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while ((lease.count() == 0 || leasedConnections() != 0) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertThat(lease.count()).isEqualTo(1);
+        assertThat(leasedConnections()).isZero();
+    }
+
+    @Test
+    public void passThroughTransportShouldSendHeadersAndBody() throws IOException {
+        PassThroughServerTransport transport = passThrough();
+        HttpHeaders headers = jsonHeaders();
+        headers.set("X-Sharer-User-Id", "7");
+
+        ResponseEntity<Object> response = transport
+                .exchange(HttpMethod.POST, baseUri.resolve("/echo"), headers, new Name("item"))
+                .block();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getHeaders().getFirst("X-Sharer-User-Id")).isEqualTo("7");
+        assertThat(readBody(response)).isEqualTo("{\"name\":\"item\"}");
+    }
+
+    @Test
+    public void passThroughTransportShouldReturnErrorStatusAsResponse() throws IOException {
+        PassThroughServerTransport transport = passThrough();
+
+        ResponseEntity<Object> response = transport
+                .exchange(HttpMethod.GET, baseUri.resolve("/items/404"), jsonHeaders(), null)
+                .block();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(readBody(response)).contains("not found");
+    }
+
+    @Test
+    public void pooledTransportsShouldShareConnectionsAndRecordLeaseTime() throws IOException {
+        BlockingServerTransport blocking = new BlockingServerTransport(new RestTemplateBuilder(), requestFactory);
+        PassThroughServerTransport passThrough = passThrough();
+
+        blocking.exchange(HttpMethod.GET, baseUri.resolve("/items/1"), jsonHeaders(), null).block();
+        readBody(passThrough.exchange(HttpMethod.GET, baseUri.resolve("/items/1"), jsonHeaders(), null).block());
+
+        Timer lease = registry.get("httpcomponents.httpclient.pool.lease").tag("outcome", "success").timer();
+        assertThat(lease.count()).isEqualTo(2);
+        assertThat(registry.get("httpcomponents.httpclient.pool.total.max").gauge().value())
+                .isEqualTo(clientProperties.getMaxTotal());
+        assertThat(registry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("state", "available").gauge().value()).isEqualTo(1);
+    }
+
+    private PassThroughServerTransport passThrough() {
+        return new PassThroughServerTransport(requestFactory, new ObjectMapper(), clientProperties);
+    }
+
+    private double leasedConnections() {
+        return registry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("state", "leased").gauge().value();
+    }
+
+    private static String readBody(ResponseEntity<Object> response) throws IOException {
+        try (InputStream body = ((Resource) response.getBody()).getInputStream()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return headers;
+    }
+
+    private static void respond(com.sun.net.httpserver.HttpExchange exchange, int status, String body)
+            throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.getResponseHeaders().add("X-Next-Cursor", "abc");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Name(String name) {
+    }
+}
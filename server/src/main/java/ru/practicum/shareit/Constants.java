@@ -7,4 +7,8 @@ public class Constants {
 
     public static final String USER_ID_HEADER = "X-Sharer-User-Id";
     public static final String ALL = "ALL";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_BATCH_SIZE = 500;
 }
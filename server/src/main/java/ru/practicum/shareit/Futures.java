@@ -0,0 +1,28 @@
+package ru.practicum.shareit;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+public class Futures {
+
+    private Futures() {
+    }
+
+    /**
+     * Дожидается результата задачи. Исключение задачи пробрасывается как есть, без обертки
+     * {@link CompletionException}, чтобы обработчик ошибок сопоставил ему обычный статус ответа.
+     *
+     * @param future задача
+     * @return результат задачи
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package ru.practicum.shareit;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.validation.exceptions.BadRequestException;
+
+import static ru.practicum.shareit.Constants.MAX_PAGE_SIZE;
+
+public class Pagination {
+
+    private Pagination() {
+    }
+
+    /**
+     * Переводит смещение и размер страницы в {@link Pageable}. Смещение округляется вниз
+     * до границы страницы, размер ограничен {@link Constants#MAX_PAGE_SIZE}.
+     *
+     * @param from индекс первого элемента
+     * @param size размер страницы
+     * @return номер и размер страницы
+     */
+    public static Pageable toPageable(int from, int size) {
+        if (from < 0) {
+            throw new BadRequestException("Смещение не может быть отрицательным");
+        }
+        if (size <= 0) {
+            throw new BadRequestException("Размер страницы должен быть положительным");
+        }
+
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+        return PageRequest.of(from / pageSize, pageSize);
+    }
+}
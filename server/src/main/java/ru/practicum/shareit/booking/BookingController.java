@@ -1,15 +1,21 @@
 package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingPage;
+import ru.practicum.shareit.booking.dto.BookingResponse;
 import ru.practicum.shareit.booking.enums.BookingState;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.service.BookingService;
 
-import java.util.Collection;
+import java.util.List;
 
 import static ru.practicum.shareit.Constants.ALL;
+import static ru.practicum.shareit.Constants.DEFAULT_PAGE_SIZE;
+import static ru.practicum.shareit.Constants.NEXT_CURSOR_HEADER;
 import static ru.practicum.shareit.Constants.USER_ID_HEADER;
 
 @RestController
@@ -26,6 +32,13 @@ public class BookingController {
         return bookingService.createBooking(userId, bookingDto);
     }
 
+    @PostMapping("/batch")
+    public List<BookingBatchResult> createBookings(@RequestHeader(USER_ID_HEADER) Long userId,
+                                                   @RequestBody List<BookingDto> bookingDtos) {
+
+        return bookingService.createBookings(userId, bookingDtos);
+    }
+
     @PatchMapping("/{bookingId}")
     public Booking updateBookingStatus(
             @RequestHeader(USER_ID_HEADER) Long userId,
@@ -44,18 +57,46 @@ public class BookingController {
     }
 
     @GetMapping
-    public Collection<Booking> findByBookerAndState(
+    public ResponseEntity<List<BookingResponse>> findByBookerAndState(
             @RequestHeader(USER_ID_HEADER) Long bookerId,
-            @RequestParam(defaultValue = ALL) BookingState state) {
+            @RequestParam(defaultValue = ALL) BookingState state,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
 
-        return bookingService.findByBookerAndState(bookerId, state);
+        if (cursor == null && size == null) {
+            return ResponseEntity.ok(BookingMapper.toBookingResponses(
+                    bookingService.findByBookerAndState(bookerId, state)));
+        }
+
+        return toResponse(bookingService.findByBookerAndState(bookerId, state, cursor, pageSize(size)));
     }
 
     @GetMapping("/owner")
-    public Collection<Booking> findByOwnerAndState(
+    public ResponseEntity<List<BookingResponse>> findByOwnerAndState(
             @RequestHeader(USER_ID_HEADER) Long ownerId,
-            @RequestParam(defaultValue = ALL) BookingState state) {
+            @RequestParam(defaultValue = ALL) BookingState state,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        if (cursor == null && size == null) {
+            return ResponseEntity.ok(BookingMapper.toBookingResponses(
+                    bookingService.findByOwnerAndState(ownerId, state)));
+        }
+
+        return toResponse(bookingService.findByOwnerAndState(ownerId, state, cursor, pageSize(size)));
+    }
+
+    private static int pageSize(Integer size) {
+        return size == null ? DEFAULT_PAGE_SIZE : size;
+    }
+
+    private static ResponseEntity<List<BookingResponse>> toResponse(BookingPage page) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+
+        if (page.nextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
 
-        return bookingService.findByOwnerAndState(ownerId, state);
+        return builder.body(BookingMapper.toBookingResponses(page.bookings()));
     }
 }
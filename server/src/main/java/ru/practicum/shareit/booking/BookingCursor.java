@@ -0,0 +1,62 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.data.domain.ScrollPosition;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.validation.exceptions.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Непрозрачный курсор для постраничной выдачи бронирований по ключу (end_date, id).
+ */
+public class BookingCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private BookingCursor() {
+    }
+
+    /**
+     * Кодирует позицию после указанного бронирования.
+     *
+     * @param booking последнее бронирование на странице
+     * @return строка курсора для следующей страницы
+     */
+    public static String encode(Booking booking) {
+        String raw = booking.getEnd() + SEPARATOR + booking.getId();
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Декодирует курсор в позицию прокрутки.
+     *
+     * @param cursor строка курсора, {@code null} или пустая строка означают первую страницу
+     * @return позиция прокрутки по ключу
+     */
+    public static ScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(SEPARATOR);
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("end", LocalDateTime.parse(raw.substring(0, index)));
+            keys.put("id", Long.parseLong(raw.substring(index + 1)));
+
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Некорректный курсор");
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package ru.practicum.shareit.booking;
 
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingResponse;
 import ru.practicum.shareit.booking.model.Booking;
 
+import java.util.Collection;
+import java.util.List;
+
 public class BookingMapper {
 
     public static Booking toBooking(BookingDto bookingDto) {
@@ -13,4 +17,20 @@ public class BookingMapper {
 
         return booking;
     }
+
+    public static BookingResponse toBookingResponse(Booking booking) {
+        return new BookingResponse(
+                booking.getId(),
+                booking.getStart(),
+                booking.getEnd(),
+                booking.getStatus(),
+                new BookingResponse.BookedItem(booking.getItem().getId(), booking.getItem().getName()),
+                new BookingResponse.Booker(booking.getBooker().getId(), booking.getBooker().getName()));
+    }
+
+    public static List<BookingResponse> toBookingResponses(Collection<Booking> bookings) {
+        return bookings.stream()
+                .map(BookingMapper::toBookingResponse)
+                .toList();
+    }
 }
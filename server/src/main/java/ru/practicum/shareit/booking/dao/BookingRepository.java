@@ -1,14 +1,27 @@
 package ru.practicum.shareit.booking.dao;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.dto.BookingPeriod;
 import ru.practicum.shareit.booking.dto.LastAndNextDate;
 import ru.practicum.shareit.booking.enums.BookingStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
@@ -16,40 +29,127 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     @Query("""
                 SELECT
                     b.item.id as itemId,
-                    MAX(CASE WHEN b.start < CURRENT_TIMESTAMP THEN b.start ELSE NULL END) as lastBooking,
-                    MIN(CASE WHEN b.start > CURRENT_TIMESTAMP THEN b.start ELSE NULL END) as nextBooking
+                    MAX(CASE WHEN b.start < ?3 THEN b.start ELSE NULL END) as lastBooking,
+                    MIN(CASE WHEN b.start > ?3 THEN b.start ELSE NULL END) as nextBooking
                 FROM Booking b
-                WHERE b.item.ownerId = ?1
+                WHERE b.item.id = ?1 AND b.status <> ?2
                 GROUP BY b.item.id
             """)
-    List<LastAndNextDate> findLastAndNextDatesByOwnerId(Long ownerId);
+    Optional<LastAndNextDate> findLastAndNextDatesByItemId(Long itemId, BookingStatus excludedStatus,
+                                                           LocalDateTime now);
+
+    /**
+     * Ищет активное бронирование предмета, пересекающееся с периодом, по GiST-индексу ограничения
+     * {@code ex_bookings_item_period}. Только для PostgreSQL. Сессия перед запросом не сбрасывается,
+     * чтобы не разбивать пакетную вставку.
+     */
+    @Query(value = """
+                SELECT EXISTS (
+                    SELECT 1 FROM bookings b
+                    WHERE b.item_id = :itemId
+                      AND b.status IN ('WAITING', 'APPROVED')
+                      AND tsrange(b.start_date, b.end_date) && tsrange(:start, :end)
+                )
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HINT_FLUSH_MODE, value = "COMMIT"))
+    boolean existsActiveOverlap(Long itemId, LocalDateTime start, LocalDateTime end);
+
+    boolean existsByIdAndStatusIn(Long id, Collection<BookingStatus> statuses);
+
+    @Query("SELECT b.id as id, b.item.id as itemId, b.start as start, b.end as end FROM Booking b WHERE b.status IN ?1")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<BookingPeriod> streamPeriodsByStatusIn(Collection<BookingStatus> statuses);
+
+    @Query("""
+                SELECT b.id as id, b.item.id as itemId, b.start as start, b.end as end
+                FROM Booking b
+                WHERE b.item.id = ?1 AND b.status IN ?2
+                ORDER BY b.start
+            """)
+    List<BookingPeriod> findPeriodsByItemIdAndStatusInOrderByStart(Long itemId, Collection<BookingStatus> statuses);
 
     Boolean existsByItemIdAndBookerIdAndStatusIsAndEndBefore(Long itemId, Long bookerId,
                                                                BookingStatus status, LocalDateTime now);
 
     // by booker
+    @EntityGraph(attributePaths = {"item", "booker"})
     List<Booking> findByBookerIdOrderByEndDesc(Long bookerId);
 
+    @EntityGraph(attributePaths = {"item", "booker"})
     List<Booking> findByBookerIdAndStatusIsOrderByEndDesc(Long bookerId, BookingStatus status);
 
-    List<Booking> findByBookerIdAndStartIsBeforeAndEndIsBeforeOrderByEndDesc(Long bookerId,
-                                                                             LocalDateTime start,
-                                                                             LocalDateTime end);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    List<Booking> findByBookerIdAndStartLessThanEqualAndEndAfterOrderByEndDesc(Long bookerId,
+                                                                               LocalDateTime start,
+                                                                               LocalDateTime end);
 
+    @EntityGraph(attributePaths = {"item", "booker"})
     List<Booking> findByBookerIdAndStartIsAfterOrderByEndDesc(Long bookerId, LocalDateTime date);
 
+    @EntityGraph(attributePaths = {"item", "booker"})
     List<Booking> findByBookerIdAndEndIsBeforeOrderByEndDesc(Long bookerId, LocalDateTime date);
 
     // by owner
+    @EntityGraph(attributePaths = {"item", "booker"})
     List<Booking> findByItemOwnerIdOrderByEndDesc(Long ownerId);
 
+    @EntityGraph(attributePaths = {"item", "booker"})
     List<Booking> findByItemOwnerIdAndStatusIsOrderByEndDesc(Long ownerId, BookingStatus status);
 
-    List<Booking> findByItemOwnerIdAndStartIsBeforeAndEndIsBeforeOrderByEndDesc(Long ownerId,
-                                                                                LocalDateTime start,
-                                                                                LocalDateTime end);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    List<Booking> findByItemOwnerIdAndStartLessThanEqualAndEndAfterOrderByEndDesc(Long ownerId,
+                                                                                  LocalDateTime start,
+                                                                                  LocalDateTime end);
 
+    @EntityGraph(attributePaths = {"item", "booker"})
     List<Booking> findByItemOwnerIdAndStartIsAfterOrderByEndDesc(Long ownerId, LocalDateTime date);
 
+    @EntityGraph(attributePaths = {"item", "booker"})
     List<Booking> findByItemOwnerIdAndEndIsBeforeOrderByEndDesc(Long ownerId, LocalDateTime date);
+
+    // keyset pages by booker
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findByBookerIdOrderByEndDescIdDesc(Long bookerId, ScrollPosition position, Limit limit);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findByBookerIdAndStatusIsOrderByEndDescIdDesc(Long bookerId, BookingStatus status,
+                                                                  ScrollPosition position, Limit limit);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findByBookerIdAndStartLessThanEqualAndEndAfterOrderByEndDescIdDesc(Long bookerId,
+                                                                                       LocalDateTime start,
+                                                                                       LocalDateTime end,
+                                                                                       ScrollPosition position,
+                                                                                       Limit limit);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findByBookerIdAndStartIsAfterOrderByEndDescIdDesc(Long bookerId, LocalDateTime date,
+                                                                      ScrollPosition position, Limit limit);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findByBookerIdAndEndIsBeforeOrderByEndDescIdDesc(Long bookerId, LocalDateTime date,
+                                                                     ScrollPosition position, Limit limit);
+
+    // keyset pages by owner
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findByItemOwnerIdOrderByEndDescIdDesc(Long ownerId, ScrollPosition position, Limit limit);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findByItemOwnerIdAndStatusIsOrderByEndDescIdDesc(Long ownerId, BookingStatus status,
+                                                                     ScrollPosition position, Limit limit);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findByItemOwnerIdAndStartLessThanEqualAndEndAfterOrderByEndDescIdDesc(Long ownerId,
+                                                                                          LocalDateTime start,
+                                                                                          LocalDateTime end,
+                                                                                          ScrollPosition position,
+                                                                                          Limit limit);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findByItemOwnerIdAndStartIsAfterOrderByEndDescIdDesc(Long ownerId, LocalDateTime date,
+                                                                         ScrollPosition position, Limit limit);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findByItemOwnerIdAndEndIsBeforeOrderByEndDescIdDesc(Long ownerId, LocalDateTime date,
+                                                                        ScrollPosition position, Limit limit);
 }
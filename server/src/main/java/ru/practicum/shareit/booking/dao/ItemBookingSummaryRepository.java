@@ -0,0 +1,32 @@
+package ru.practicum.shareit.booking.dao;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ItemBookingSummaryRepository extends JpaRepository<ItemBookingSummary, Long> {
+
+    @Query("""
+                SELECT s
+                FROM ItemBookingSummary s
+                JOIN Item i ON i.id = s.itemId
+                WHERE i.ownerId = ?1
+            """)
+    List<ItemBookingSummary> findByOwnerId(Long ownerId);
+
+    @Query("SELECT s.itemId FROM ItemBookingSummary s WHERE s.nextBooking <= ?1 ORDER BY s.itemId")
+    List<Long> findItemIdsWithNextBookingBefore(LocalDateTime now);
+
+    @Query("""
+                SELECT DISTINCT b.item.id
+                FROM Booking b
+                WHERE NOT EXISTS (SELECT s.itemId FROM ItemBookingSummary s WHERE s.itemId = b.item.id)
+                ORDER BY b.item.id
+            """)
+    List<Long> findItemIdsWithoutSummary();
+}
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.booking.dto;
+
+import ru.practicum.shareit.booking.model.Booking;
+
+/**
+ * Результат создания одного бронирования из пакета: либо созданное бронирование, либо причина отказа.
+ */
+public record BookingBatchResult(Booking booking, String error) {
+
+    public static BookingBatchResult created(Booking booking) {
+        return new BookingBatchResult(booking, null);
+    }
+
+    public static BookingBatchResult failed(String error) {
+        return new BookingBatchResult(null, error);
+    }
+}
@@ -0,0 +1,8 @@
+package ru.practicum.shareit.booking.dto;
+
+import ru.practicum.shareit.booking.model.Booking;
+
+import java.util.List;
+
+public record BookingPage(List<Booking> bookings, String nextCursor) {
+}
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.booking.dto;
+
+import ru.practicum.shareit.booking.enums.BookingStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Бронирование в списках: вместо сущностей предмета и арендатора только поля, которые показывает клиент.
+ */
+public record BookingResponse(Long id, LocalDateTime start, LocalDateTime end, BookingStatus status,
+                              BookedItem item, Booker booker) {
+
+    public record BookedItem(Long id, String name) {
+    }
+
+    public record Booker(Long id, String name) {
+    }
+}
@@ -0,0 +1,15 @@
+package ru.practicum.shareit.booking.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Занятые и свободные промежутки предмета в периоде {@code [from, to)}. Занятые промежутки получены
+ * слиянием ожидающих и подтвержденных бронирований, свободные дополняют их до всего периода.
+ */
+public record ItemAvailability(Long itemId, LocalDateTime from, LocalDateTime to,
+                               List<Interval> busy, List<Interval> free) {
+
+    public record Interval(LocalDateTime start, LocalDateTime end) {
+    }
+}
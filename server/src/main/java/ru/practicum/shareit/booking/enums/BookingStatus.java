@@ -1,5 +1,17 @@
 package ru.practicum.shareit.booking.enums;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum BookingStatus {
-    WAITING, REJECTED, APPROVED
+    WAITING, REJECTED, APPROVED;
+
+    /**
+     * Статусы, при которых бронирование занимает предмет на свой период.
+     */
+    public static final Set<BookingStatus> ACTIVE = EnumSet.of(WAITING, APPROVED);
+
+    public boolean isActive() {
+        return ACTIVE.contains(this);
+    }
 }
@@ -0,0 +1,34 @@
+package ru.practicum.shareit.booking.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.practicum.shareit.booking.dto.LastAndNextDate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Поддерживаемая проекция последнего и следующего бронирования предмета.
+ * Строка пересчитывается при создании бронирования, смене его статуса
+ * и по расписанию, когда следующее бронирование становится последним.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "item_booking_summary", schema = "public")
+public class ItemBookingSummary implements LastAndNextDate {
+    @Id
+    @Column(name = "item_id")
+    private Long itemId;
+    @Column(name = "last_booking")
+    private LocalDateTime lastBooking;
+    @Column(name = "next_booking")
+    private LocalDateTime nextBooking;
+}
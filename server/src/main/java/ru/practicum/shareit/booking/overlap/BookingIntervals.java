@@ -0,0 +1,73 @@
+package ru.practicum.shareit.booking.overlap;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Непересекающиеся периоды бронирований одного предмета, упорядоченные по началу.
+ * Раз периоды не пересекаются, с новым периодом могут пересечься только последний период, начавшийся
+ * не позже него, и периоды, начавшиеся внутри него, поэтому поиск занимает O(log n) плюс число пересечений.
+ * Периоды полуоткрытые: бронирование может начаться в момент окончания предыдущего.
+ * Класс не потокобезопасен.
+ */
+public class BookingIntervals {
+
+    private final NavigableMap<LocalDateTime, Period> periods = new TreeMap<>();
+
+    /**
+     * Возвращает периоды, пересекающиеся с {@code [start, end)}.
+     *
+     * @param start начало, включительно
+     * @param end   конец, не включительно
+     * @return пересекающиеся периоды в порядке начала
+     */
+    public List<Period> overlapping(LocalDateTime start, LocalDateTime end) {
+        List<Period> result = new ArrayList<>();
+
+        Map.Entry<LocalDateTime, Period> before = periods.floorEntry(start);
+        if (before != null && before.getValue().end().isAfter(start)) {
+            result.add(before.getValue());
+        }
+        result.addAll(periods.subMap(start, false, end, false).values());
+
+        return result;
+    }
+
+    /**
+     * Добавляет период, если он ни с чем не пересекается.
+     *
+     * @param period период бронирования
+     * @return {@code false}, если период пересекается с уже добавленным и не был добавлен
+     */
+    public boolean add(Period period) {
+        if (!overlapping(period.start(), period.end()).isEmpty()) {
+            return false;
+        }
+        periods.put(period.start(), period);
+        return true;
+    }
+
+    /**
+     * Удаляет период, если он все еще принадлежит тому же бронированию.
+     *
+     * @param period период бронирования
+     */
+    public void remove(Period period) {
+        periods.remove(period.start(), period);
+    }
+
+    public boolean isEmpty() {
+        return periods.isEmpty();
+    }
+
+    public int size() {
+        return periods.size();
+    }
+
+    public record Period(Long bookingId, LocalDateTime start, LocalDateTime end) {
+    }
+}
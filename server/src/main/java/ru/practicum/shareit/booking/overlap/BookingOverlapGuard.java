@@ -0,0 +1,38 @@
+package ru.practicum.shareit.booking.overlap;
+
+import ru.practicum.shareit.booking.model.Booking;
+
+import java.time.LocalDateTime;
+
+/**
+ * Не дает забронировать предмет на период, пересекающийся с другим ожидающим или подтвержденным бронированием.
+ * Реализация выбирается свойством {@code shareit.booking.overlap-guard}.
+ */
+public interface BookingOverlapGuard {
+
+    /**
+     * Проверяет, занят ли предмет в период {@code [start, end)}. Бронирования, еще не сохраненные
+     * в текущей транзакции, проверка может не видеть.
+     *
+     * @param itemId ID предмета
+     * @param start  начало
+     * @param end    конец
+     * @return {@code true}, если период пересекается с активным бронированием
+     */
+    boolean hasOverlap(Long itemId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Закрепляет период сохраненного бронирования за предметом.
+     *
+     * @param booking бронирование с назначенным id
+     * @throws ru.practicum.shareit.validation.exceptions.ConflictException если период успели занять
+     */
+    void reserve(Booking booking);
+
+    /**
+     * Освобождает период бронирования, которое перестало быть активным.
+     *
+     * @param booking отклоненное бронирование
+     */
+    void release(Booking booking);
+}
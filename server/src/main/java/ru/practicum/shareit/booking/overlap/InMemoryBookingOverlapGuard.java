@@ -0,0 +1,196 @@
+package ru.practicum.shareit.booking.overlap;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingPeriod;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.validation.exceptions.ConflictException;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Периоды активных бронирований каждого предмета в памяти процесса. Загружаются при старте приложения
+ * и обновляются сервисом бронирований. Проверка и закрепление периода выполняются под блокировкой предмета.
+ * Блокировка {@link ReentrantLock}, а не монитор: под ней бывает запрос в базу, и виртуальный поток
+ * не должен занимать поток-носитель на время этого запроса.
+ * <p>
+ * Бронирования удаляются каскадом в базе вместе с пользователями и предметами, мимо этого класса.
+ * Поэтому пересечение с закрепленным периодом подтверждается по базе, а исчезнувшие бронирования
+ * забываются. Периоды транзакций, которые еще не завершились, считаются занятыми без проверки.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.booking.overlap-guard", havingValue = "memory", matchIfMissing = true)
+public class InMemoryBookingOverlapGuard implements BookingOverlapGuard {
+
+    private final BookingRepository bookingRepository;
+
+    private final Map<Long, ItemIntervals> items = new ConcurrentHashMap<>();
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        int skipped = 0;
+        try (Stream<BookingPeriod> stream = bookingRepository.streamPeriodsByStatusIn(BookingStatus.ACTIVE)) {
+            for (BookingPeriod period : (Iterable<BookingPeriod>) stream::iterator) {
+                ItemIntervals item = intervals(period.getItemId());
+                item.lock.lock();
+                try {
+                    if (!item.intervals.add(toPeriod(period)) && !contains(item.intervals, period)) {
+                        skipped++;
+                    }
+                } finally {
+                    item.lock.unlock();
+                }
+            }
+        }
+        if (skipped > 0) {
+            log.warn("Пропущено {} пересекающихся бронирований, созданных до проверки пересечений", skipped);
+        }
+    }
+
+    @Override
+    public boolean hasOverlap(Long itemId, LocalDateTime start, LocalDateTime end) {
+        ItemIntervals item = intervals(itemId);
+        item.lock.lock();
+        try {
+            return !isFree(item.intervals, null, start, end);
+        } finally {
+            item.lock.unlock();
+        }
+    }
+
+    @Override
+    public void reserve(Booking booking) {
+        BookingIntervals.Period period = toPeriod(booking);
+        ItemIntervals item = intervals(booking.getItem().getId());
+
+        item.lock.lock();
+        try {
+            if (!isFree(item.intervals, period.bookingId(), period.start(), period.end())) {
+                throw new ConflictException("Предмет уже забронирован на эти даты");
+            }
+            item.intervals.add(period);
+            pending.add(period.bookingId());
+        } finally {
+            item.lock.unlock();
+        }
+
+        afterCompletion(committed -> {
+            pending.remove(period.bookingId());
+            if (!committed) {
+                remove(item, period);
+            }
+        });
+    }
+
+    @Override
+    public void release(Booking booking) {
+        BookingIntervals.Period period = toPeriod(booking);
+        ItemIntervals item = intervals(booking.getItem().getId());
+
+        afterCompletion(committed -> {
+            if (committed) {
+                remove(item, period);
+            }
+        });
+    }
+
+    /**
+     * Проверяет, свободен ли период, и забывает закрепленные периоды бронирований, которых уже нет в базе.
+     * Вызывается под блокировкой предмета.
+     */
+    private boolean isFree(BookingIntervals intervals, Long bookingId, LocalDateTime start, LocalDateTime end) {
+        for (BookingIntervals.Period other : intervals.overlapping(start, end)) {
+            if (other.bookingId().equals(bookingId)) {
+                continue;
+            }
+            if (pending.contains(other.bookingId())
+                    || bookingRepository.existsByIdAndStatusIn(other.bookingId(), BookingStatus.ACTIVE)) {
+                return false;
+            }
+            intervals.remove(other);
+        }
+        return true;
+    }
+
+    private ItemIntervals intervals(Long itemId) {
+        return items.computeIfAbsent(itemId, id -> new ItemIntervals());
+    }
+
+    private static void remove(ItemIntervals item, BookingIntervals.Period period) {
+        item.lock.lock();
+        try {
+            item.intervals.remove(period);
+        } finally {
+            item.lock.unlock();
+        }
+    }
+
+    private static boolean contains(BookingIntervals intervals, BookingPeriod period) {
+        return intervals.overlapping(period.getStart(), period.getEnd()).contains(toPeriod(period));
+    }
+
+    /**
+     * Выполняет действие после завершения текущей транзакции, а без транзакции сразу.
+     */
+    private static void afterCompletion(CompletionAction action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private static BookingIntervals.Period toPeriod(Booking booking) {
+        return toPeriod(booking.getId(), booking.getStart(), booking.getEnd());
+    }
+
+    private static BookingIntervals.Period toPeriod(BookingPeriod period) {
+        return toPeriod(period.getId(), period.getStart(), period.getEnd());
+    }
+
+    /**
+     * База хранит время с точностью до микросекунд, период приводится к ней, чтобы бронирование, прочитанное
+     * из базы, совпадало с закрепленным при создании.
+     */
+    private static BookingIntervals.Period toPeriod(Long bookingId, LocalDateTime start, LocalDateTime end) {
+        return new BookingIntervals.Period(bookingId, start.truncatedTo(ChronoUnit.MICROS),
+                end.truncatedTo(ChronoUnit.MICROS));
+    }
+
+    /**
+     * Периоды предмета и блокировка, под которой их читают и меняют.
+     */
+    private static final class ItemIntervals {
+        private final BookingIntervals intervals = new BookingIntervals();
+        private final ReentrantLock lock = new ReentrantLock();
+    }
+
+    @FunctionalInterface
+    private interface CompletionAction {
+        void run(boolean committed);
+    }
+}
@@ -0,0 +1,34 @@
+package ru.practicum.shareit.booking.overlap;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.model.Booking;
+
+import java.time.LocalDateTime;
+
+/**
+ * Проверка по GiST-индексу ограничения {@code ex_bookings_item_period}. Ограничение само отклоняет
+ * пересечения при вставке, поэтому гонку между проверкой и вставкой закрывает база.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.booking.overlap-guard", havingValue = "postgres")
+public class PostgresBookingOverlapGuard implements BookingOverlapGuard {
+
+    private final BookingRepository bookingRepository;
+
+    @Override
+    public boolean hasOverlap(Long itemId, LocalDateTime start, LocalDateTime end) {
+        return bookingRepository.existsActiveOverlap(itemId, start, end);
+    }
+
+    @Override
+    public void reserve(Booking booking) {
+    }
+
+    @Override
+    public void release(Booking booking) {
+    }
+}
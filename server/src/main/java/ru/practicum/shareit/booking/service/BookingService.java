@@ -1,14 +1,19 @@
 package ru.practicum.shareit.booking.service;
 
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingPage;
 import ru.practicum.shareit.booking.enums.BookingState;
 
 import java.util.Collection;
+import java.util.List;
 
 public interface BookingService {
     Booking createBooking(Long bookerId, BookingDto bookingDto);
 
+    List<BookingBatchResult> createBookings(Long bookerId, List<BookingDto> bookingDtos);
+
     Booking updateBookingStatus(Long userId, Long bookingId, Boolean approved);
 
     Booking getBooking(Long userId, Long bookingId);
@@ -16,4 +21,8 @@ public interface BookingService {
     Collection<Booking> findByBookerAndState(Long bookerId, BookingState state);
 
     Collection<Booking> findByOwnerAndState(Long ownerId, BookingState state);
+
+    BookingPage findByBookerAndState(Long bookerId, BookingState state, String cursor, int size);
+
+    BookingPage findByOwnerAndState(Long ownerId, BookingState state, String cursor, int size);
 }
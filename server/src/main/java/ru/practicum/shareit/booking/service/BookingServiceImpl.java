@@ -1,32 +1,59 @@
 package ru.practicum.shareit.booking.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.BookingCursor;
 import ru.practicum.shareit.booking.BookingMapper;
 import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingPage;
 import ru.practicum.shareit.booking.enums.BookingState;
 import ru.practicum.shareit.booking.enums.BookingStatus;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.overlap.BookingIntervals;
+import ru.practicum.shareit.booking.overlap.BookingOverlapGuard;
 import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
 import ru.practicum.shareit.validation.exceptions.BadRequestException;
+import ru.practicum.shareit.validation.exceptions.ConflictException;
 import ru.practicum.shareit.validation.exceptions.ForbiddenException;
 import ru.practicum.shareit.validation.exceptions.NotFoundException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static ru.practicum.shareit.Constants.MAX_BATCH_SIZE;
+import static ru.practicum.shareit.Constants.MAX_PAGE_SIZE;
 
 @Service
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
 
+    private static final String OVERLAP_MESSAGE = "Предмет уже забронирован на эти даты";
+
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
+    private final ItemBookingSummaryService summaryService;
+    private final UserService userService;
+    private final BookingOverlapGuard overlapGuard;
+    private final ItemAvailabilityService availabilityService;
 
     @Override
     @Transactional
@@ -41,13 +68,86 @@ public class BookingServiceImpl implements BookingService {
         if (!item.getIsAvailable()) {
             throw new BadRequestException("Предмет не доступен");
         }
+        if (overlapGuard.hasOverlap(item.getId(), bookingDto.getStart(), bookingDto.getEnd())) {
+            throw new ConflictException(OVERLAP_MESSAGE);
+        }
 
         Booking booking = BookingMapper.toBooking(bookingDto);
         booking.setItem(item);
         booking.setBooker(user);
         booking.setStatus(BookingStatus.WAITING);
 
-        return bookingRepository.save(booking);
+        Booking saved = bookingRepository.save(booking);
+        overlapGuard.reserve(saved);
+        summaryService.refresh(item.getId());
+        availabilityService.invalidate(item.getId());
+
+        return saved;
+    }
+
+    /**
+     * Создает пакет бронирований одной транзакцией. Пользователь загружается один раз, предметы одним запросом,
+     * а новые бронирования вставляются пакетами JDBC. Ошибка в отдельной записи не отменяет остальные:
+     * для каждой записи возвращается созданное бронирование или причина отказа, в порядке запроса.
+     * Пересечения проверяются и с сохраненными бронированиями, и с предыдущими записями пакета.
+     *
+     * @param bookerId    ID арендатора
+     * @param bookingDtos бронирования, не больше {@code MAX_BATCH_SIZE}
+     * @return результаты по каждой записи
+     */
+    @Override
+    @Transactional
+    public List<BookingBatchResult> createBookings(Long bookerId, List<BookingDto> bookingDtos) {
+        if (bookingDtos.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Можно создать не более " + MAX_BATCH_SIZE + " бронирований за раз");
+        }
+
+        User user = userRepository.findById(bookerId)
+                .orElseThrow(() -> new NotFoundException("Пользователь с id " + bookerId + " не найден"));
+
+        Set<Long> itemIds = bookingDtos.stream()
+                .map(BookingDto::getItemId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Item> items = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        List<BookingBatchResult> results = new ArrayList<>(bookingDtos.size());
+        List<Booking> bookings = new ArrayList<>(bookingDtos.size());
+        Map<Long, BookingIntervals> accepted = new HashMap<>();
+
+        for (BookingDto bookingDto : bookingDtos) {
+            String error = validate(bookingDto, items);
+            if (error == null && !accept(bookingDto, accepted)) {
+                error = OVERLAP_MESSAGE;
+            }
+            if (error != null) {
+                results.add(BookingBatchResult.failed(error));
+                continue;
+            }
+
+            Booking booking = BookingMapper.toBooking(bookingDto);
+            booking.setItem(items.get(bookingDto.getItemId()));
+            booking.setBooker(user);
+            booking.setStatus(BookingStatus.WAITING);
+
+            bookings.add(booking);
+            results.add(BookingBatchResult.created(booking));
+        }
+
+        bookingRepository.saveAll(bookings);
+        bookings.forEach(overlapGuard::reserve);
+        bookings.stream()
+                .map(booking -> booking.getItem().getId())
+                .distinct()
+                // пересчет проекции блокирует предмет, общий порядок исключает взаимную блокировку пакетов
+                .sorted()
+                .forEach(itemId -> {
+                    summaryService.refresh(itemId);
+                    availabilityService.invalidate(itemId);
+                });
+
+        return results;
     }
 
     @Override
@@ -60,13 +160,24 @@ public class BookingServiceImpl implements BookingService {
             throw new ForbiddenException("Только владелец предмета может поменять статус");
         }
 
+        BookingStatus previous = booking.getStatus();
         if (approved) {
+            if (!previous.isActive()) {
+                overlapGuard.reserve(booking);
+            }
             booking.setStatus(BookingStatus.APPROVED);
         } else {
             booking.setStatus(BookingStatus.REJECTED);
+            if (previous.isActive()) {
+                overlapGuard.release(booking);
+            }
         }
 
-        return bookingRepository.save(booking);
+        Booking saved = bookingRepository.save(booking);
+        summaryService.refresh(booking.getItem().getId());
+        availabilityService.invalidate(booking.getItem().getId());
+
+        return saved;
     }
 
     @Override
@@ -84,9 +195,7 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional(readOnly = true)
     public Collection<Booking> findByBookerAndState(Long bookerId, BookingState state) {
-        if (!userRepository.existsById(bookerId)) {
-            throw new NotFoundException("Пользователь с id " + bookerId + " не найден");
-        }
+        userService.throwIfUserNotFound(bookerId);
 
         LocalDateTime now = LocalDateTime.now();
 
@@ -95,7 +204,7 @@ public class BookingServiceImpl implements BookingService {
                     bookingRepository.findByBookerIdAndStatusIsOrderByEndDesc(bookerId, BookingStatus.REJECTED);
             case WAITING -> bookingRepository.findByBookerIdAndStatusIsOrderByEndDesc(bookerId, BookingStatus.WAITING);
             case CURRENT ->
-                    bookingRepository.findByBookerIdAndStartIsBeforeAndEndIsBeforeOrderByEndDesc(bookerId, now, now);
+                    bookingRepository.findByBookerIdAndStartLessThanEqualAndEndAfterOrderByEndDesc(bookerId, now, now);
             case PAST -> bookingRepository.findByBookerIdAndEndIsBeforeOrderByEndDesc(bookerId, now);
             case FUTURE -> bookingRepository.findByBookerIdAndStartIsAfterOrderByEndDesc(bookerId, now);
             default -> bookingRepository.findByBookerIdOrderByEndDesc(bookerId);
@@ -105,9 +214,7 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional(readOnly = true)
     public Collection<Booking> findByOwnerAndState(Long ownerId, BookingState state) {
-        if (!userRepository.existsById(ownerId)) {
-            throw new NotFoundException("Пользователь с id " + ownerId + " не найден");
-        }
+        userService.throwIfUserNotFound(ownerId);
 
         LocalDateTime now = LocalDateTime.now();
 
@@ -117,13 +224,138 @@ public class BookingServiceImpl implements BookingService {
             case WAITING ->
                     bookingRepository.findByItemOwnerIdAndStatusIsOrderByEndDesc(ownerId, BookingStatus.WAITING);
             case CURRENT ->
-                    bookingRepository.findByItemOwnerIdAndStartIsBeforeAndEndIsBeforeOrderByEndDesc(ownerId, now, now);
+                    bookingRepository.findByItemOwnerIdAndStartLessThanEqualAndEndAfterOrderByEndDesc(ownerId, now, now);
             case PAST -> bookingRepository.findByItemOwnerIdAndEndIsBeforeOrderByEndDesc(ownerId, now);
             case FUTURE -> bookingRepository.findByItemOwnerIdAndStartIsAfterOrderByEndDesc(ownerId, now);
             default -> bookingRepository.findByItemOwnerIdOrderByEndDesc(ownerId);
         };
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BookingPage findByBookerAndState(Long bookerId, BookingState state, String cursor, int size) {
+        userService.throwIfUserNotFound(bookerId);
+
+        LocalDateTime now = LocalDateTime.now();
+        ScrollPosition position = BookingCursor.decode(cursor);
+        Limit limit = toLimit(size);
+
+        Window<Booking> window = switch (state) {
+            case REJECTED -> bookingRepository.findByBookerIdAndStatusIsOrderByEndDescIdDesc(
+                    bookerId, BookingStatus.REJECTED, position, limit);
+            case WAITING -> bookingRepository.findByBookerIdAndStatusIsOrderByEndDescIdDesc(
+                    bookerId, BookingStatus.WAITING, position, limit);
+            case CURRENT -> bookingRepository.findByBookerIdAndStartLessThanEqualAndEndAfterOrderByEndDescIdDesc(
+                    bookerId, now, now, position, limit);
+            case PAST -> bookingRepository.findByBookerIdAndEndIsBeforeOrderByEndDescIdDesc(
+                    bookerId, now, position, limit);
+            case FUTURE -> bookingRepository.findByBookerIdAndStartIsAfterOrderByEndDescIdDesc(
+                    bookerId, now, position, limit);
+            default -> bookingRepository.findByBookerIdOrderByEndDescIdDesc(bookerId, position, limit);
+        };
+
+        return toPage(window);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookingPage findByOwnerAndState(Long ownerId, BookingState state, String cursor, int size) {
+        userService.throwIfUserNotFound(ownerId);
+
+        LocalDateTime now = LocalDateTime.now();
+        ScrollPosition position = BookingCursor.decode(cursor);
+        Limit limit = toLimit(size);
+
+        Window<Booking> window = switch (state) {
+            case REJECTED -> bookingRepository.findByItemOwnerIdAndStatusIsOrderByEndDescIdDesc(
+                    ownerId, BookingStatus.REJECTED, position, limit);
+            case WAITING -> bookingRepository.findByItemOwnerIdAndStatusIsOrderByEndDescIdDesc(
+                    ownerId, BookingStatus.WAITING, position, limit);
+            case CURRENT -> bookingRepository.findByItemOwnerIdAndStartLessThanEqualAndEndAfterOrderByEndDescIdDesc(
+                    ownerId, now, now, position, limit);
+            case PAST -> bookingRepository.findByItemOwnerIdAndEndIsBeforeOrderByEndDescIdDesc(
+                    ownerId, now, position, limit);
+            case FUTURE -> bookingRepository.findByItemOwnerIdAndStartIsAfterOrderByEndDescIdDesc(
+                    ownerId, now, position, limit);
+            default -> bookingRepository.findByItemOwnerIdOrderByEndDescIdDesc(ownerId, position, limit);
+        };
+
+        return toPage(window);
+    }
+
+    /**
+     * Ограничивает размер страницы сверху, чтобы время ответа не зависело от длины истории.
+     *
+     * @param size запрошенный размер страницы
+     * @return лимит выборки
+     */
+    private Limit toLimit(int size) {
+        if (size <= 0) {
+            throw new BadRequestException("Размер страницы должен быть положительным");
+        }
+
+        return Limit.of(Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Превращает окно выборки в страницу с курсором на следующую порцию.
+     *
+     * @param window окно бронирований
+     * @return страница бронирований, курсор равен {@code null} на последней странице
+     */
+    private BookingPage toPage(Window<Booking> window) {
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? BookingCursor.encode(window.getContent().getLast())
+                : null;
+
+        return new BookingPage(window.getContent(), nextCursor);
+    }
+
+    /**
+     * Проверяет запись пакета теми же правилами, что и одиночное создание.
+     *
+     * @param bookingDto запись пакета
+     * @param items      найденные предметы пакета
+     * @return причина отказа или {@code null}, если запись корректна
+     */
+    private String validate(BookingDto bookingDto, Map<Long, Item> items) {
+        if (bookingDto.getItemId() == null || bookingDto.getStart() == null || bookingDto.getEnd() == null) {
+            return "Не указаны предмет или даты бронирования";
+        }
+        if (!bookingDto.getStart().isBefore(bookingDto.getEnd())) {
+            return "Начало не может быть после конца";
+        }
+
+        Item item = items.get(bookingDto.getItemId());
+        if (item == null) {
+            return "Предмет с id " + bookingDto.getItemId() + " не найден";
+        }
+        if (!item.getIsAvailable()) {
+            return "Предмет не доступен";
+        }
+
+        return null;
+    }
+
+    /**
+     * Принимает запись пакета, если ее период свободен и не пересекается с уже принятыми записями пакета.
+     * Принятые записи еще не сохранены, поэтому {@link BookingOverlapGuard} их не видит.
+     *
+     * @param bookingDto корректная запись пакета
+     * @param accepted   периоды принятых записей по предметам
+     * @return {@code false}, если период занят
+     */
+    private boolean accept(BookingDto bookingDto, Map<Long, BookingIntervals> accepted) {
+        BookingIntervals intervals = accepted.computeIfAbsent(bookingDto.getItemId(), id -> new BookingIntervals());
+        BookingIntervals.Period period = new BookingIntervals.Period(null, bookingDto.getStart(), bookingDto.getEnd());
+
+        if (!intervals.overlapping(period.start(), period.end()).isEmpty()
+                || overlapGuard.hasOverlap(bookingDto.getItemId(), period.start(), period.end())) {
+            return false;
+        }
+        return intervals.add(period);
+    }
+
     private void throwIfDatesInvalid(BookingDto bookingDto) {
         if (!bookingDto.getStart().isBefore(bookingDto.getEnd())) {
             throw new BadRequestException("Начало не может быть после конца");
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.booking.service;
+
+import ru.practicum.shareit.booking.dto.ItemAvailability;
+
+import java.time.LocalDateTime;
+
+public interface ItemAvailabilityService {
+
+    ItemAvailability getAvailability(Long itemId, LocalDateTime from, LocalDateTime to);
+
+    void invalidate(Long itemId);
+}
@@ -0,0 +1,175 @@
+package ru.practicum.shareit.booking.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingPeriod;
+import ru.practicum.shareit.booking.dto.ItemAvailability;
+import ru.practicum.shareit.booking.dto.ItemAvailability.Interval;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.validation.exceptions.BadRequestException;
+import ru.practicum.shareit.validation.exceptions.NotFoundException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Календарь занятости предметов. Слитые промежутки бронирований предмета хранятся в кэше, поэтому частые
+ * запросы календаря не обращаются к базе. Сервис бронирований сбрасывает запись предмета после фиксации
+ * изменений. Бронирования, удаленные каскадом вместе с пользователем, пропадают из календаря
+ * по истечении времени жизни записи.
+ */
+@Service
+public class ItemAvailabilityServiceImpl implements ItemAvailabilityService {
+
+    static final Duration DEFAULT_RANGE = Duration.ofDays(30);
+    static final Duration MAX_RANGE = Duration.ofDays(366);
+
+    private final BookingRepository bookingRepository;
+    private final ItemRepository itemRepository;
+    private final Cache<Long, List<Interval>> busyIntervals;
+
+    public ItemAvailabilityServiceImpl(BookingRepository bookingRepository,
+                                       ItemRepository itemRepository,
+                                       MeterRegistry registry,
+                                       @Value("${shareit.availability-cache.maximum-size:10000}")
+                                       long maximumSize,
+                                       @Value("${shareit.availability-cache.expire-after-write:5m}")
+                                       Duration expireAfterWrite) {
+        this.bookingRepository = bookingRepository;
+        this.itemRepository = itemRepository;
+        this.busyIntervals = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, busyIntervals, "item.availability");
+    }
+
+    /**
+     * Возвращает занятость предмета в периоде. Без {@code from} период начинается сейчас,
+     * без {@code to} длится {@link #DEFAULT_RANGE}.
+     *
+     * @param itemId ID предмета
+     * @param from   начало периода, включительно
+     * @param to     конец периода, не включительно
+     * @return занятые и свободные промежутки в порядке начала
+     */
+    @Override
+    public ItemAvailability getAvailability(Long itemId, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = from == null ? LocalDateTime.now() : from;
+        LocalDateTime end = to == null ? start.plus(DEFAULT_RANGE) : to;
+
+        if (!start.isBefore(end)) {
+            throw new BadRequestException("Начало периода должно быть раньше конца");
+        }
+        if (Duration.between(start, end).compareTo(MAX_RANGE) > 0) {
+            throw new BadRequestException("Период не может быть длиннее " + MAX_RANGE.toDays() + " дней");
+        }
+
+        List<Interval> merged = busyIntervals.get(itemId, this::load);
+
+        List<Interval> busy = new ArrayList<>();
+        List<Interval> free = new ArrayList<>();
+        LocalDateTime cursor = start;
+
+        for (int i = firstEndingAfter(merged, start); i < merged.size(); i++) {
+            Interval interval = merged.get(i);
+            if (!interval.start().isBefore(end)) {
+                break;
+            }
+
+            LocalDateTime busyStart = interval.start().isAfter(start) ? interval.start() : start;
+            LocalDateTime busyEnd = interval.end().isBefore(end) ? interval.end() : end;
+
+            if (cursor.isBefore(busyStart)) {
+                free.add(new Interval(cursor, busyStart));
+            }
+            busy.add(new Interval(busyStart, busyEnd));
+            cursor = busyEnd;
+        }
+        if (cursor.isBefore(end)) {
+            free.add(new Interval(cursor, end));
+        }
+
+        return new ItemAvailability(itemId, start, end, busy, free);
+    }
+
+    /**
+     * Сбрасывает закэшированную занятость предмета. Внутри транзакции запись сбрасывается после фиксации,
+     * чтобы параллельный запрос не закэшировал состояние до изменения.
+     *
+     * @param itemId ID предмета
+     */
+    @Override
+    public void invalidate(Long itemId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            busyIntervals.invalidate(itemId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                busyIntervals.invalidate(itemId);
+            }
+        });
+    }
+
+    private List<Interval> load(Long itemId) {
+        if (itemRepository.findById(itemId).isEmpty()) {
+            throw new NotFoundException("Предмет с id " + itemId + " не найден");
+        }
+
+        return merge(bookingRepository.findPeriodsByItemIdAndStatusInOrderByStart(itemId, BookingStatus.ACTIVE));
+    }
+
+    /**
+     * Сливает пересекающиеся и соседние периоды бронирований в непересекающиеся промежутки.
+     *
+     * @param periods периоды в порядке начала
+     * @return промежутки в порядке начала
+     */
+    static List<Interval> merge(List<BookingPeriod> periods) {
+        List<Interval> merged = new ArrayList<>();
+
+        for (BookingPeriod period : periods) {
+            if (!merged.isEmpty() && !period.getStart().isAfter(merged.getLast().end())) {
+                Interval last = merged.getLast();
+                if (period.getEnd().isAfter(last.end())) {
+                    merged.set(merged.size() - 1, new Interval(last.start(), period.getEnd()));
+                }
+            } else {
+                merged.add(new Interval(period.getStart(), period.getEnd()));
+            }
+        }
+
+        return List.copyOf(merged);
+    }
+
+    /**
+     * Промежутки не пересекаются, поэтому их концы тоже упорядочены и первый промежуток,
+     * заканчивающийся после {@code moment}, находится двоичным поиском.
+     */
+    private static int firstEndingAfter(List<Interval> intervals, LocalDateTime moment) {
+        int low = 0;
+        int high = intervals.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (intervals.get(mid).end().isAfter(moment)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
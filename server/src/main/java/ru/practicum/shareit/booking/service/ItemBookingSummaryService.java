@@ -0,0 +1,10 @@
+package ru.practicum.shareit.booking.service;
+
+public interface ItemBookingSummaryService {
+
+    void refresh(Long itemId);
+
+    void rollOver();
+
+    void backfill();
+}
@@ -0,0 +1,81 @@
+package ru.practicum.shareit.booking.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.dao.ItemBookingSummaryRepository;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
+import ru.practicum.shareit.item.dao.ItemRepository;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class ItemBookingSummaryServiceImpl implements ItemBookingSummaryService {
+
+    private final BookingRepository bookingRepository;
+    private final ItemBookingSummaryRepository summaryRepository;
+    private final ItemRepository itemRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Пересчитывает проекцию для одного предмета по его бронированиям, кроме отклоненных.
+     * Если подходящих бронирований нет, обе даты сохраняются пустыми.
+     * <p>
+     * Перед пересчетом строка предмета блокируется. Параллельный пересчет того же предмета ждет фиксации
+     * и читает даты уже с чужим бронированием, а строку проекции видит созданной и обновляет, а не вставляет.
+     *
+     * @param itemId ID предмета
+     */
+    @Override
+    @Transactional
+    public void refresh(Long itemId) {
+        itemRepository.lockById(itemId);
+
+        ItemBookingSummary summary = ItemBookingSummary.builder()
+                .itemId(itemId)
+                .build();
+
+        bookingRepository.findLastAndNextDatesByItemId(itemId, BookingStatus.REJECTED, LocalDateTime.now())
+                .ifPresent(dates -> {
+                    summary.setLastBooking(dates.getLastBooking());
+                    summary.setNextBooking(dates.getNextBooking());
+                });
+
+        summaryRepository.save(summary);
+    }
+
+    /**
+     * Пересчитывает предметы, у которых следующее бронирование уже началось и должно стать последним.
+     * До очередного запуска такие предметы показывают начавшееся бронирование как следующее.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${shareit.booking-summary.roll-interval:60000}")
+    public void rollOver() {
+        summaryRepository.findItemIdsWithNextBookingBefore(LocalDateTime.now()).forEach(this::refreshSeparately);
+    }
+
+    /**
+     * Заполняет проекцию для предметов, бронирования которых появились до ее введения.
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        summaryRepository.findItemIdsWithoutSummary().forEach(this::refreshSeparately);
+    }
+
+    /**
+     * Пересчитывает предмет в собственной короткой транзакции, чтобы обход не держал блокировки
+     * всех пройденных предметов до своего завершения. Предметы обходятся по возрастанию Id,
+     * в том же порядке, что и при пакетном создании бронирований.
+     */
+    private void refreshSeparately(Long itemId) {
+        transactionTemplate.executeWithoutResult(status -> refresh(itemId));
+    }
+}
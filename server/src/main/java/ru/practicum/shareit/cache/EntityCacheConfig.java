@@ -0,0 +1,59 @@
+package ru.practicum.shareit.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Кэш второго уровня Hibernate на Caffeine через JCache. Каждая фабрика сессий получает свой
+ * {@link CacheManager} с заранее созданными ограниченными регионами, неизвестный регион считается ошибкой.
+ * Hibernate закрывает менеджер вместе с фабрикой сессий.
+ * Попадания и промахи публикуются как {@code hibernate.second.level.cache.requests}.
+ */
+@Configuration
+@EnableConfigurationProperties(EntityCacheProperties.class)
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache", havingValue = "true")
+public class EntityCacheConfig {
+
+    static final List<String> REGIONS = List.of(User.CACHE_REGION, Item.CACHE_REGION);
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(EntityCacheProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager(properties));
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+        };
+    }
+
+    static CacheManager cacheManager(EntityCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("shareit-entity-cache-" + UUID.randomUUID()),
+                        EntityCacheConfig.class.getClassLoader());
+
+        for (String name : REGIONS) {
+            EntityCacheProperties.Region region = properties.region(name);
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(region.getExpireAfterWrite().toNanos()));
+            cacheManager.createCache(name, configuration);
+        }
+        return cacheManager;
+    }
+}
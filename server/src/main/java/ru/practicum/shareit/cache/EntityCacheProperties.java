@@ -0,0 +1,39 @@
+package ru.practicum.shareit.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Размеры и время жизни регионов кэша сущностей второго уровня ({@code shareit.entity-cache.*}).
+ * Регион без своих настроек получает {@link #defaults}.
+ */
+@Data
+@ConfigurationProperties(prefix = "shareit.entity-cache")
+public class EntityCacheProperties {
+
+    private Region defaults = new Region();
+
+    private Map<String, Region> regions = new HashMap<>();
+
+    public Region region(String name) {
+        return regions.getOrDefault(name, defaults);
+    }
+
+    @Data
+    public static class Region {
+
+        /**
+         * Максимум сущностей в регионе, лишние вытесняются.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * Время жизни сущности с момента записи в кэш.
+         */
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+    }
+}
@@ -1,13 +1,18 @@
 package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.ItemAvailability;
+import ru.practicum.shareit.booking.service.ItemAvailabilityService;
 import ru.practicum.shareit.item.dto.CommentCreate;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.service.ItemService;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 
 import static ru.practicum.shareit.Constants.USER_ID_HEADER;
 
@@ -17,15 +22,37 @@ import static ru.practicum.shareit.Constants.USER_ID_HEADER;
 public class ItemController {
 
     private final ItemService itemService;
+    private final ItemAvailabilityService availabilityService;
 
     @GetMapping("/{itemId}")
     public ItemDto getItem(@PathVariable Long itemId) {
         return itemService.getItem(itemId);
     }
 
+    @GetMapping("/{itemId}/availability")
+    public ItemAvailability getAvailability(
+            @PathVariable Long itemId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return availabilityService.getAvailability(itemId, from, to);
+    }
+
+    @GetMapping("/{itemId}/comments")
+    public Collection<CommentDto> getComments(@PathVariable Long itemId,
+                                              @RequestParam(defaultValue = "0") Integer from,
+                                              @RequestParam(defaultValue = "20") Integer size) {
+        return itemService.getComments(itemId, from, size);
+    }
+
+    @GetMapping(params = "ids")
+    public Collection<ItemDto> getItemsByIds(@RequestParam List<Long> ids) {
+        return itemService.getItemsByIds(ids);
+    }
+
     @GetMapping("/search")
-    public Collection<ItemDto> searchItems(@RequestParam String text) {
-        return itemService.searchItems(text);
+    public Collection<ItemDto> searchItems(@RequestParam String text,
+                                           @RequestParam(defaultValue = "20") Integer size) {
+        return itemService.searchItems(text, size);
     }
 
     @GetMapping
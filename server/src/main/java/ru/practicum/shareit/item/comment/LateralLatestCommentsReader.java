@@ -0,0 +1,32 @@
+package ru.practicum.shareit.item.comment;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dao.CommentRepository;
+import ru.practicum.shareit.item.model.Comment;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Последние комментарии через {@code JOIN LATERAL} в PostgreSQL: для каждого предмета читается
+ * ровно {@code limit} первых строк индекса {@code ix_comments_item_created}, без сортировки всех комментариев.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.comments.latest-query", havingValue = "lateral")
+public class LateralLatestCommentsReader implements LatestCommentsReader {
+
+    private final CommentRepository commentRepository;
+
+    @Override
+    public List<Comment> findByItemOwnerId(Long ownerId, int limit) {
+        return commentRepository.findLatestByItemOwnerIdLateral(ownerId, limit);
+    }
+
+    @Override
+    public List<Comment> findByItemIdIn(Collection<Long> itemIds, int limit) {
+        return commentRepository.findLatestByItemIdInLateral(itemIds, limit);
+    }
+}
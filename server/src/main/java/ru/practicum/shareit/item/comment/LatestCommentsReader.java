@@ -0,0 +1,31 @@
+package ru.practicum.shareit.item.comment;
+
+import ru.practicum.shareit.item.model.Comment;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Чтение нескольких последних комментариев к каждому предмету.
+ * Реализация выбирается свойством {@code shareit.comments.latest-query}.
+ */
+public interface LatestCommentsReader {
+
+    /**
+     * Не больше {@code limit} последних комментариев к каждому предмету владельца.
+     *
+     * @param ownerId id владельца
+     * @param limit   максимальное количество комментариев на предмет
+     * @return комментарии с предметом и автором, от новых к старым
+     */
+    List<Comment> findByItemOwnerId(Long ownerId, int limit);
+
+    /**
+     * Не больше {@code limit} последних комментариев к каждому из предметов.
+     *
+     * @param itemIds id предметов
+     * @param limit   максимальное количество комментариев на предмет
+     * @return комментарии с предметом и автором, от новых к старым
+     */
+    List<Comment> findByItemIdIn(Collection<Long> itemIds, int limit);
+}
@@ -0,0 +1,32 @@
+package ru.practicum.shareit.item.comment;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dao.CommentRepository;
+import ru.practicum.shareit.item.model.Comment;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Последние комментарии через {@code ROW_NUMBER() OVER (PARTITION BY item_id ...)}. Работает на любой базе,
+ * в том числе на H2 без {@code LATERAL}, но нумерует все комментарии выбранных предметов.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.comments.latest-query", havingValue = "window", matchIfMissing = true)
+public class WindowLatestCommentsReader implements LatestCommentsReader {
+
+    private final CommentRepository commentRepository;
+
+    @Override
+    public List<Comment> findByItemOwnerId(Long ownerId, int limit) {
+        return commentRepository.findLatestByItemOwnerIdWindow(ownerId, limit);
+    }
+
+    @Override
+    public List<Comment> findByItemIdIn(Collection<Long> itemIds, int limit) {
+        return commentRepository.findLatestByItemIdInWindow(itemIds, limit);
+    }
+}
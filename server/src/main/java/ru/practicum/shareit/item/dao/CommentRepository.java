@@ -1,15 +1,113 @@
 package ru.practicum.shareit.item.dao;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.item.model.Comment;
 
 import java.util.Collection;
+import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     Collection<Comment> findByItemId(Long itemId);
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.item WHERE c.item.ownerId = ?1")
-    Collection<Comment> findByItemOwnerId(Long ownerId);
+    /**
+     * Страница комментариев предмета, от новых к старым.
+     */
+    @Query("""
+                SELECT c
+                FROM Comment c
+                JOIN FETCH c.item
+                JOIN FETCH c.author
+                WHERE c.item.id = ?1
+                ORDER BY c.created DESC, c.id DESC
+            """)
+    List<Comment> findPageByItemId(Long itemId, Pageable pageable);
+
+    /**
+     * Не больше {@code limit} последних комментариев к каждому предмету владельца, от новых к старым.
+     * Для каждого предмета через {@code JOIN LATERAL} читается только начало индекса
+     * {@code (item_id, created_at DESC, id DESC)}.
+     * Только для PostgreSQL: на базах без {@code LATERAL} Hibernate эмулирует соединение полным перебором.
+     */
+    @Query("""
+                SELECT c
+                FROM Item i
+                JOIN LATERAL (
+                    SELECT lc.id AS id
+                    FROM Comment lc
+                    WHERE lc.item.id = i.id
+                    ORDER BY lc.created DESC, lc.id DESC
+                    LIMIT ?2
+                ) latest
+                JOIN Comment c ON c.id = latest.id
+                JOIN FETCH c.item
+                JOIN FETCH c.author
+                WHERE i.ownerId = ?1
+                ORDER BY c.created DESC, c.id DESC
+            """)
+    List<Comment> findLatestByItemOwnerIdLateral(Long ownerId, int limit);
+
+    /**
+     * Не больше {@code limit} последних комментариев к каждому из предметов, от новых к старым.
+     * Только для PostgreSQL, как и {@link #findLatestByItemOwnerIdLateral}.
+     */
+    @Query("""
+                SELECT c
+                FROM Item i
+                JOIN LATERAL (
+                    SELECT lc.id AS id
+                    FROM Comment lc
+                    WHERE lc.item.id = i.id
+                    ORDER BY lc.created DESC, lc.id DESC
+                    LIMIT ?2
+                ) latest
+                JOIN Comment c ON c.id = latest.id
+                JOIN FETCH c.item
+                JOIN FETCH c.author
+                WHERE i.id IN ?1
+                ORDER BY c.created DESC, c.id DESC
+            """)
+    List<Comment> findLatestByItemIdInLateral(Collection<Long> itemIds, int limit);
+
+    /**
+     * Не больше {@code limit} последних комментариев к каждому предмету владельца, от новых к старым.
+     * Комментарии предметов нумеруются через {@code row_number()}, поэтому запрос работает на любой базе.
+     */
+    @Query("""
+                SELECT c
+                FROM Comment c
+                JOIN FETCH c.item
+                JOIN FETCH c.author
+                JOIN (
+                    SELECT lc.id AS id,
+                           row_number() OVER (PARTITION BY lc.item.id ORDER BY lc.created DESC, lc.id DESC) AS rn
+                    FROM Comment lc
+                    WHERE lc.item.ownerId = ?1
+                ) ranked ON ranked.id = c.id
+                WHERE ranked.rn <= ?2
+                ORDER BY c.created DESC, c.id DESC
+            """)
+    List<Comment> findLatestByItemOwnerIdWindow(Long ownerId, int limit);
+
+    /**
+     * Не больше {@code limit} последних комментариев к каждому из предметов, от новых к старым,
+     * через {@code row_number()}.
+     */
+    @Query("""
+                SELECT c
+                FROM Comment c
+                JOIN FETCH c.item
+                JOIN FETCH c.author
+                JOIN (
+                    SELECT lc.id AS id,
+                           row_number() OVER (PARTITION BY lc.item.id ORDER BY lc.created DESC, lc.id DESC) AS rn
+                    FROM Comment lc
+                    WHERE lc.item.id IN ?1
+                ) ranked ON ranked.id = c.id
+                WHERE ranked.rn <= ?2
+                ORDER BY c.created DESC, c.id DESC
+            """)
+    List<Comment> findLatestByItemIdInWindow(Collection<Long> itemIds, int limit);
 }
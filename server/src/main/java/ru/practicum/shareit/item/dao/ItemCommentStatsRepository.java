@@ -0,0 +1,39 @@
+package ru.practicum.shareit.item.dao;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.item.model.ItemCommentStats;
+
+import java.util.List;
+
+@Repository
+public interface ItemCommentStatsRepository extends JpaRepository<ItemCommentStats, Long> {
+
+    @Query("""
+                SELECT s
+                FROM ItemCommentStats s
+                JOIN Item i ON i.id = s.itemId
+                WHERE i.ownerId = ?1
+            """)
+    List<ItemCommentStats> findByOwnerId(Long ownerId);
+
+    /**
+     * Атомарно увеличивает счетчик комментариев предмета одним запросом. Если счетчика еще нет, например предмет
+     * добавлен в обход сервиса, он создается по фактическому числу комментариев. Hibernate выполняет запрос
+     * как {@code INSERT ... ON CONFLICT DO UPDATE} в PostgreSQL и как {@code MERGE} в H2, поэтому параллельные
+     * первые комментарии не сталкиваются на вставке.
+     * <p>
+     * Перед запросом изменения сбрасываются в базу, после него контекст очищается,
+     * чтобы не читать устаревший счетчик в той же транзакции.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                INSERT INTO ItemCommentStats (itemId, commentsCount)
+                VALUES (?1, (SELECT count(c) FROM Comment c WHERE c.item.id = ?1))
+                ON CONFLICT (itemId) DO UPDATE
+                SET commentsCount = commentsCount + 1
+            """)
+    void increment(Long itemId);
+}
@@ -1,16 +1,27 @@
 package ru.practicum.shareit.item.dao;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.item.dto.ItemShortWithRequestId;
 import ru.practicum.shareit.item.model.Item;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
     Collection<Item> findByOwnerId(Long userId);
 
+    /**
+     * Блокирует строку предмета до конца транзакции.
+     *
+     * @return ID предмета, пусто если предмета нет
+     */
+    @Query(value = "SELECT id FROM items WHERE id = ?1 FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(Long itemId);
+
     Collection<ItemShortWithRequestId> findByRequestId(Long requestId);
 
     Collection<ItemShortWithRequestId> findAllByRequestIdIn(Collection<Long> ids);
@@ -19,8 +30,20 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
             SELECT i
             FROM Item i
             WHERE i.isAvailable = true
-            AND UPPER(i.name) LIKE CONCAT('%',UPPER(:text),'%') OR
-            UPPER(i.description) LIKE CONCAT('%',UPPER(:text),'%')
+            AND (UPPER(i.name) LIKE CONCAT('%',UPPER(:text),'%') OR
+            UPPER(i.description) LIKE CONCAT('%',UPPER(:text),'%'))
+            ORDER BY i.id
             """)
-    Collection<Item> searchByNameOrDescription(String text);
+    List<Item> searchByNameOrDescription(String text, Limit limit);
+
+    @Query(value = """
+            SELECT i.*
+            FROM items i
+            WHERE i.available = true
+            AND to_tsvector('simple', i.name || ' ' || i.description) @@ to_tsquery('simple', :query)
+            ORDER BY ts_rank(to_tsvector('simple', i.name || ' ' || i.description),
+                             to_tsquery('simple', :query)) DESC, i.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Item> fullTextSearch(String query, int limit);
 }
@@ -18,5 +18,6 @@ public class ItemDto {
     private LocalDateTime lastBooking;
     private LocalDateTime nextBooking;
     private Collection<CommentDto> comments;
+    private Long commentsCount;
     private Long requestId;
 }
@@ -42,6 +42,17 @@ public class ItemMapper {
         return item;
     }
 
+    public static Item copy(Item item) {
+        return Item.builder()
+                .id(item.getId())
+                .name(item.getName())
+                .description(item.getDescription())
+                .isAvailable(item.getIsAvailable())
+                .ownerId(item.getOwnerId())
+                .requestId(item.getRequestId())
+                .build();
+    }
+
     public static ItemShort toItemShort(ItemShortWithRequestId s) {
         return new ItemShort(s.getId(), s.getName(), s.getOwnerId());
     }
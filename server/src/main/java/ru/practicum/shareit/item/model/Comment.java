@@ -16,8 +16,11 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "comments", schema = "public")
 public class Comment {
+    public static final String ID_SEQUENCE = "comments_seq";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = 50)
     private Long id;
     @ManyToOne
     @JoinColumn(name = "item_id")
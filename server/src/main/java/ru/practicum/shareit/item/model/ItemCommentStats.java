@@ -0,0 +1,28 @@
+package ru.practicum.shareit.item.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Поддерживаемый счетчик комментариев предмета.
+ * Строка создается вместе с предметом и увеличивается при добавлении комментария.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "item_comment_stats", schema = "public")
+public class ItemCommentStats {
+    @Id
+    @Column(name = "item_id")
+    private Long itemId;
+    @Column(name = "comments_count", nullable = false)
+    private Long commentsCount;
+}
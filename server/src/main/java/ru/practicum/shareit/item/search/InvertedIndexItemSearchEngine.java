@@ -0,0 +1,179 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.mappers.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Поиск по инвертированному индексу слов, который хранится в памяти процесса.
+ * Индекс заполняется при старте приложения и обновляется при сохранении предметов через сервис
+ * и при удалении их владельца.
+ * Слова запроса ищутся как префиксы, совпадение всего слова ценится выше совпадения префикса.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "memory")
+public class InvertedIndexItemSearchEngine implements ItemSearchEngine {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int EXACT_MATCH_SCORE = 2;
+    private static final int PREFIX_MATCH_SCORE = 1;
+
+    private final ItemRepository itemRepository;
+
+    private final NavigableMap<String, Set<Long>> postings = new TreeMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Pageable pageable = PageRequest.of(0, LOAD_BATCH_SIZE);
+        Page<Item> page;
+        do {
+            page = itemRepository.findAll(pageable);
+            page.forEach(this::index);
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+    }
+
+    @Override
+    public void index(Item item) {
+        lock.writeLock().lock();
+        try {
+            unindex(item.getId());
+
+            if (Boolean.TRUE.equals(item.getIsAvailable())) {
+                Set<String> tokens = SearchTokenizer.tokenize(item.getName() + " " + item.getDescription());
+                documents.put(item.getId(), new Document(ItemMapper.copy(item), tokens));
+                tokens.forEach(token -> postings.computeIfAbsent(token, t -> new HashSet<>()).add(item.getId()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long itemId) {
+        lock.writeLock().lock();
+        try {
+            unindex(itemId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeByOwner(Long ownerId) {
+        lock.writeLock().lock();
+        try {
+            documents.values().stream()
+                    .map(Document::item)
+                    .filter(item -> ownerId.equals(item.getOwnerId()))
+                    .map(Item::getId)
+                    .toList()
+                    .forEach(this::unindex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Item> search(String text, int limit) {
+        Set<String> tokens = SearchTokenizer.tokenize(text);
+        if (tokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> scores = null;
+            for (String token : tokens) {
+                Map<Long, Integer> tokenScores = score(token);
+                scores = scores == null ? tokenScores : intersect(scores, tokenScores);
+
+                if (scores.isEmpty()) {
+                    return Collections.emptyList();
+                }
+            }
+
+            Map<Long, Integer> result = scores;
+            return result.keySet().stream()
+                    .sorted(Comparator.comparing((Long id) -> result.get(id)).reversed()
+                            .thenComparing(Comparator.naturalOrder()))
+                    .limit(limit)
+                    .map(id -> ItemMapper.copy(documents.get(id).item()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Находит предметы, содержащие слово с указанным префиксом.
+     *
+     * @param token слово запроса
+     * @return {@code Map<Long, Integer>} где ключ - Id предмета, значение - лучшая оценка совпадения
+     */
+    private Map<Long, Integer> score(String token) {
+        Map<Long, Integer> scores = new HashMap<>();
+
+        postings.subMap(token, true, token + Character.MAX_VALUE, false)
+                .forEach((word, ids) -> {
+                    int score = word.equals(token) ? EXACT_MATCH_SCORE : PREFIX_MATCH_SCORE;
+                    ids.forEach(id -> scores.merge(id, score, Math::max));
+                });
+
+        return scores;
+    }
+
+    private Map<Long, Integer> intersect(Map<Long, Integer> left, Map<Long, Integer> right) {
+        Map<Long, Integer> result = new HashMap<>();
+
+        left.forEach((id, score) -> {
+            Integer other = right.get(id);
+            if (other != null) {
+                result.put(id, score + other);
+            }
+        });
+
+        return result;
+    }
+
+    private void unindex(Long itemId) {
+        Document document = documents.remove(itemId);
+        if (document == null) {
+            return;
+        }
+
+        document.tokens().forEach(token -> {
+            Set<Long> ids = postings.get(token);
+            ids.remove(itemId);
+            if (ids.isEmpty()) {
+                postings.remove(token);
+            }
+        });
+    }
+
+    private record Document(Item item, Set<String> tokens) {
+    }
+}
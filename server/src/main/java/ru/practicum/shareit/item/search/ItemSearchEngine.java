@@ -0,0 +1,45 @@
+package ru.practicum.shareit.item.search;
+
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+/**
+ * Поисковый движок по названию и описанию доступных предметов.
+ * Реализация выбирается свойством {@code shareit.search.engine}.
+ */
+public interface ItemSearchEngine {
+
+    /**
+     * Ищет доступные предметы по тексту.
+     *
+     * @param text  поисковая строка, не пустая
+     * @param limit максимальное количество результатов
+     * @return предметы в порядке убывания релевантности
+     */
+    List<Item> search(String text, int limit);
+
+    /**
+     * Сообщает движку о сохраненном предмете. Движкам, которые ищут напрямую в базе, делать ничего не нужно.
+     *
+     * @param item сохраненный предмет
+     */
+    default void index(Item item) {
+    }
+
+    /**
+     * Сообщает движку об удаленном предмете.
+     *
+     * @param itemId Id удаленного предмета
+     */
+    default void remove(Long itemId) {
+    }
+
+    /**
+     * Сообщает движку об удалении всех предметов владельца, например каскадом при удалении пользователя.
+     *
+     * @param ownerId Id владельца
+     */
+    default void removeByOwner(Long ownerId) {
+    }
+}
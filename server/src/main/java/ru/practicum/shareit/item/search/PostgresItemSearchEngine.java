@@ -0,0 +1,38 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Полнотекстовый поиск PostgreSQL по GIN-индексу {@code ix_items_fts}.
+ * Каждое слово запроса ищется как префикс, результаты ранжируются через {@code ts_rank}.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "postgres")
+public class PostgresItemSearchEngine implements ItemSearchEngine {
+
+    private final ItemRepository itemRepository;
+
+    @Override
+    public List<Item> search(String text, int limit) {
+        Set<String> tokens = SearchTokenizer.tokenize(text);
+        if (tokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        String query = tokens.stream()
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(" & "));
+
+        return itemRepository.fullTextSearch(query, limit);
+    }
+}
@@ -0,0 +1,214 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.mappers.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Поиск подстроки по триграммному индексу в памяти процесса. Находит то же, что и {@code LIKE '%text%'},
+ * но вместо сканирования таблицы пересекает списки предметов, содержащих каждую триграмму запроса,
+ * и проверяет подстроку только у оставшихся кандидатов.
+ * Запросы короче трех символов проверяются перебором проиндексированных предметов.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "trigram")
+public class TrigramItemSearchEngine implements ItemSearchEngine {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int GRAM = 3;
+
+    private final ItemRepository itemRepository;
+
+    private final Map<Long, LongPostingList> postings = new HashMap<>();
+    private final TreeMap<Long, Document> documents = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Pageable pageable = PageRequest.of(0, LOAD_BATCH_SIZE);
+        Page<Item> page;
+        do {
+            page = itemRepository.findAll(pageable);
+            page.forEach(this::index);
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+    }
+
+    @Override
+    public void index(Item item) {
+        lock.writeLock().lock();
+        try {
+            unindex(item.getId());
+
+            if (Boolean.TRUE.equals(item.getIsAvailable())) {
+                Document document = new Document(ItemMapper.copy(item),
+                        normalize(item.getName()), normalize(item.getDescription()));
+                documents.put(item.getId(), document);
+                document.trigrams().forEach(trigram ->
+                        postings.computeIfAbsent(trigram, t -> new LongPostingList()).add(item.getId()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long itemId) {
+        lock.writeLock().lock();
+        try {
+            unindex(itemId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeByOwner(Long ownerId) {
+        lock.writeLock().lock();
+        try {
+            documents.values().stream()
+                    .map(Document::item)
+                    .filter(item -> ownerId.equals(item.getOwnerId()))
+                    .map(Item::getId)
+                    .toList()
+                    .forEach(this::unindex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Item> search(String text, int limit) {
+        String query = normalize(text);
+        if (query.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            return query.length() < GRAM ? scan(query, limit) : lookup(query, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Item> scan(String query, int limit) {
+        List<Item> result = new ArrayList<>();
+
+        for (Document document : documents.values()) {
+            if (result.size() == limit) {
+                break;
+            }
+            if (document.contains(query)) {
+                result.add(ItemMapper.copy(document.item()));
+            }
+        }
+
+        return result;
+    }
+
+    private List<Item> lookup(String query, int limit) {
+        List<LongPostingList> lists = new ArrayList<>();
+        for (long trigram : trigrams(query)) {
+            LongPostingList list = postings.get(trigram);
+            if (list == null) {
+                return Collections.emptyList();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(LongPostingList::size));
+
+        LongPostingList smallest = lists.getFirst();
+        List<Item> result = new ArrayList<>();
+
+        for (int i = 0; i < smallest.size() && result.size() < limit; i++) {
+            long id = smallest.get(i);
+            if (!containsInAll(lists, id)) {
+                continue;
+            }
+
+            Document document = documents.get(id);
+            if (document.contains(query)) {
+                result.add(ItemMapper.copy(document.item()));
+            }
+        }
+
+        return result;
+    }
+
+    private boolean containsInAll(List<LongPostingList> lists, long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void unindex(Long itemId) {
+        Document document = documents.remove(itemId);
+        if (document == null) {
+            return;
+        }
+
+        document.trigrams().forEach(trigram -> {
+            LongPostingList ids = postings.get(trigram);
+            ids.remove(itemId);
+            if (ids.isEmpty()) {
+                postings.remove(trigram);
+            }
+        });
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Кодирует каждые три подряд идущих символа строки в одно число {@code long} по 16 бит на символ.
+     */
+    private static Set<Long> trigrams(String text) {
+        Set<Long> trigrams = new HashSet<>();
+
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            trigrams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+
+        return trigrams;
+    }
+
+    private record Document(Item item, String name, String description) {
+
+        boolean contains(String query) {
+            return name.contains(query) || description.contains(query);
+        }
+
+        Set<Long> trigrams() {
+            Set<Long> trigrams = TrigramItemSearchEngine.trigrams(name);
+            trigrams.addAll(TrigramItemSearchEngine.trigrams(description));
+            return trigrams;
+        }
+    }
+}
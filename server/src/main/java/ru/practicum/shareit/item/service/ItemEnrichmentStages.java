@@ -0,0 +1,112 @@
+package ru.practicum.shareit.item.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Этапы загрузки предметов владельца: сами предметы, даты бронирований и комментарии.
+ * Время каждого этапа пишется в таймер {@code item.owner.enrichment} с тегом {@code stage}.
+ * <p>
+ * При {@code shareit.item-enrichment.parallel=true} этапы, запущенные через {@link #fork}, выполняются
+ * в отдельном пуле из {@code shareit.item-enrichment.pool-size} потоков, каждый в своей транзакции
+ * репозитория. Пул общий для всех запросов и ограничивает число соединений, занятых обогащением.
+ * Вызывающий не должен держать транзакцию, пока ждет этапы: иначе каждый ожидающий запрос удерживает
+ * соединение, и при нагрузке этапам его не достается.
+ * По умолчанию все этапы выполняются по очереди в потоке вызова в одной транзакции только для чтения.
+ */
+@Component
+public class ItemEnrichmentStages implements DisposableBean {
+
+    static final String TIMER_NAME = "item.owner.enrichment";
+
+    private final MeterRegistry registry;
+    private final ExecutorService executor;
+    private final TransactionOperations scope;
+
+    public ItemEnrichmentStages(MeterRegistry registry,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${shareit.item-enrichment.parallel:false}") boolean parallel,
+                                @Value("${shareit.item-enrichment.pool-size:4}") int poolSize) {
+        this.registry = registry;
+        this.executor = parallel ? ExecutorServiceMetrics.monitor(registry,
+                Executors.newFixedThreadPool(poolSize, new CustomizableThreadFactory("item-enrichment-")),
+                "item.enrichment") : null;
+        this.scope = parallel ? TransactionOperations.withoutTransaction() : readOnly(transactionManager);
+    }
+
+    public boolean isParallel() {
+        return executor != null;
+    }
+
+    /**
+     * Выполняет всю загрузку, внутри которой запускаются этапы. По очереди этапы читают
+     * в одной транзакции только для чтения: один снимок данных и одно соединение на всю загрузку.
+     * В параллельном режиме транзакция не открывается, чтобы поток вызова не держал соединение,
+     * пока ждет этапы.
+     *
+     * @param load загрузка, которая запускает этапы и собирает их результаты
+     * @return результат загрузки
+     */
+    public <T> T load(Supplier<T> load) {
+        return scope.execute(status -> load.get());
+    }
+
+    /**
+     * Выполняет этап в потоке вызова.
+     *
+     * @param stage  название этапа для метрики
+     * @param loader загрузка данных этапа
+     * @return результат этапа
+     */
+    public <T> T run(String stage, Supplier<T> loader) {
+        return timer(stage).record(loader);
+    }
+
+    /**
+     * Запускает этап в пуле обогащения, а если он выключен, выполняет сразу.
+     *
+     * @param stage  название этапа для метрики
+     * @param loader загрузка данных этапа, не должна зависеть от транзакции вызывающего
+     * @return результат этапа
+     */
+    public <T> CompletableFuture<T> fork(String stage, Supplier<T> loader) {
+        if (executor == null) {
+            return CompletableFuture.completedFuture(run(stage, loader));
+        }
+
+        return CompletableFuture.supplyAsync(() -> run(stage, loader), executor);
+    }
+
+    private static TransactionOperations readOnly(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private Timer timer(String stage) {
+        return Timer.builder(TIMER_NAME)
+                .tag("stage", stage)
+                .tag("mode", isParallel() ? "parallel" : "sequential")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
@@ -9,10 +9,14 @@ import java.util.Collection;
 public interface ItemService {
     ItemDto getItem(Long itemId);
 
-    Collection<ItemDto> searchItems(String text);
+    Collection<ItemDto> getItemsByIds(Collection<Long> itemIds);
+
+    Collection<ItemDto> searchItems(String text, int size);
 
     Collection<ItemDto> getItems(Long userId);
 
+    Collection<CommentDto> getComments(Long itemId, int from, int size);
+
     ItemDto addItem(Long userId, ItemDto itemDto);
 
     ItemDto updateItem(Long userId, Long itemId, ItemDto itemDto);
@@ -1,12 +1,20 @@
 package ru.practicum.shareit.item.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.Futures;
 import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.dao.ItemBookingSummaryRepository;
 import ru.practicum.shareit.booking.dto.LastAndNextDate;
 import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
+import ru.practicum.shareit.item.comment.LatestCommentsReader;
 import ru.practicum.shareit.item.dao.CommentRepository;
+import ru.practicum.shareit.item.dao.ItemCommentStatsRepository;
 import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.item.dto.CommentCreate;
 import ru.practicum.shareit.item.dto.CommentDto;
@@ -15,6 +23,8 @@ import ru.practicum.shareit.item.mappers.CommentMapper;
 import ru.practicum.shareit.item.mappers.ItemMapper;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemCommentStats;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 import ru.practicum.shareit.validation.exceptions.BadRequestException;
@@ -23,19 +33,36 @@ import ru.practicum.shareit.validation.exceptions.NotFoundException;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static ru.practicum.shareit.Constants.MAX_PAGE_SIZE;
+import static ru.practicum.shareit.Pagination.toPageable;
+
 @Service
 @RequiredArgsConstructor
 public class ItemServiceImpl implements ItemService {
 
+    /**
+     * Сколько последних комментариев возвращается вместе с предметом. Остальные читаются постранично.
+     */
+    public static final int LATEST_COMMENTS_LIMIT = 10;
+
     private final ItemRepository itemRepository;
     private final CommentRepository commentRepository;
+    private final LatestCommentsReader latestComments;
+    private final ItemCommentStatsRepository commentStatsRepository;
     private final BookingRepository bookingRepository;
+    private final ItemBookingSummaryRepository summaryRepository;
     private final UserService userService;
+    private final ItemSearchEngine searchEngine;
+    private final ItemEnrichmentStages enrichmentStages;
 
     @Override
     @Transactional(readOnly = true)
@@ -45,34 +72,104 @@ public class ItemServiceImpl implements ItemService {
                 .orElseThrow(() -> new NotFoundException("Предмет с id " + itemId + " не найден"));
 
         ItemDto itemDto = ItemMapper.toItemDto(item);
-        Collection<Comment> comments = commentRepository.findByItemId(itemId);
+        Collection<Comment> comments = commentRepository.findPageByItemId(itemId,
+                PageRequest.of(0, LATEST_COMMENTS_LIMIT));
+        long commentsCount = commentStatsRepository.findById(itemId)
+                .map(ItemCommentStats::getCommentsCount)
+                .orElse(0L);
+
+        return enrichWithComments(itemDto, comments, commentsCount);
+    }
+
+    /**
+     * Загружает предметы, их последние комментарии и счетчики комментариев тремя запросами.
+     * Предметы возвращаются в порядке переданных id, повторы и несуществующие id пропускаются.
+     *
+     * @param itemIds ID предметов, не больше {@code MAX_PAGE_SIZE}
+     * @return найденные предметы с комментариями
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Collection<ItemDto> getItemsByIds(Collection<Long> itemIds) {
+        Set<Long> ids = new LinkedHashSet<>(itemIds);
+        if (ids.size() > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Можно запросить не более " + MAX_PAGE_SIZE + " предметов");
+        }
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-        return enrichWithComments(itemDto, comments);
+        Map<Long, Item> items = itemRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        Map<Long, List<CommentDto>> commentsMap =
+                groupByItemId(latestComments.findByItemIdIn(ids, LATEST_COMMENTS_LIMIT));
+        Map<Long, Long> countsMap = toCountsMap(commentStatsRepository.findAllById(ids));
+
+        return ids.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .map(item -> {
+                    ItemDto dto = ItemMapper.toItemDto(item);
+                    dto.setComments(commentsMap.getOrDefault(item.getId(), Collections.emptyList()));
+                    dto.setCommentsCount(countsMap.getOrDefault(item.getId(), 0L));
+                    return dto;
+                })
+                .toList();
     }
 
     @Override
-    public Collection<ItemDto> searchItems(String text) {
+    public Collection<ItemDto> searchItems(String text, int size) {
         if (text == null || text.isBlank()) {
             return Collections.emptyList();
         }
+        if (size <= 0) {
+            throw new BadRequestException("Размер страницы должен быть положительным");
+        }
 
-        return itemRepository.searchByNameOrDescription(text)
+        return searchEngine.search(text, Math.min(size, MAX_PAGE_SIZE))
                 .stream()
                 .map(ItemMapper::toItemDto)
                 .toList();
     }
 
+    /**
+     * Загружает предметы владельца с датами бронирований и комментариями.
+     * <p>
+     * Транзакцию открывает {@link ItemEnrichmentStages#load}: по очереди этапы читают в одной транзакции
+     * только для чтения, а в параллельном режиме поток вызова только ждет этапы и не удерживает соединение,
+     * иначе одновременные вызовы занимают весь пул и этапам не хватает соединений.
+     */
     @Override
-    @Transactional(readOnly = true)
     public Collection<ItemDto> getItems(Long ownerId) {
         userService.throwIfUserNotFound(ownerId);
 
-        Collection<Item> items = itemRepository.findByOwnerId(ownerId);
+        return enrichmentStages.load(() -> {
+            CompletableFuture<Collection<Item>> items =
+                    enrichmentStages.fork("items", () -> itemRepository.findByOwnerId(ownerId));
+            CompletableFuture<Map<Long, LastAndNextDate>> datesMap =
+                    enrichmentStages.fork("dates", () -> getDatesMap(ownerId));
+            CompletableFuture<Map<Long, List<CommentDto>>> commentsMap =
+                    enrichmentStages.fork("comments", () -> getCommentsMap(ownerId));
+            CompletableFuture<Map<Long, Long>> countsMap = enrichmentStages.fork("comments-count",
+                    () -> toCountsMap(commentStatsRepository.findByOwnerId(ownerId)));
+
+            return enrichWithDatesAndComments(Futures.join(items),
+                    Futures.join(datesMap),
+                    Futures.join(commentsMap),
+                    Futures.join(countsMap));
+        });
+    }
 
-        Map<Long, LastAndNextDate> datesMap = getDatesMap(ownerId);
-        Map<Long, List<CommentDto>> commentsMap = getCommentsMap(ownerId);
+    @Override
+    @Transactional(readOnly = true)
+    public Collection<CommentDto> getComments(Long itemId, int from, int size) {
+        if (!itemRepository.existsById(itemId)) {
+            throw new NotFoundException("Предмет с id " + itemId + " не найден");
+        }
 
-        return enrichWithDatesAndComments(items, datesMap, commentsMap);
+        return commentRepository.findPageByItemId(itemId, toPageable(from, size)).stream()
+                .map(CommentMapper::toCommentDto)
+                .toList();
     }
 
     @Override
@@ -85,7 +182,11 @@ public class ItemServiceImpl implements ItemService {
 
         System.out.println(item);
 
-        return ItemMapper.toItemDto(itemRepository.save(item));
+        Item saved = itemRepository.save(item);
+        commentStatsRepository.save(new ItemCommentStats(saved.getId(), 0L));
+        indexAfterCommit(saved);
+
+        return ItemMapper.toItemDto(saved);
     }
 
     @Override
@@ -99,7 +200,10 @@ public class ItemServiceImpl implements ItemService {
         currentItem.setOwnerId(userId);
         ItemMapper.merge(currentItem, itemDto);
 
-        return ItemMapper.toItemDto(itemRepository.save(currentItem));
+        Item saved = itemRepository.save(currentItem);
+        indexAfterCommit(saved);
+
+        return ItemMapper.toItemDto(saved);
     }
 
     @Override
@@ -122,7 +226,29 @@ public class ItemServiceImpl implements ItemService {
                 .created(LocalDateTime.now())
                 .build();
 
-        return CommentMapper.toCommentDto(commentRepository.save(comment));
+        Comment saved = commentRepository.save(comment);
+        commentStatsRepository.increment(itemId);
+
+        return CommentMapper.toCommentDto(saved);
+    }
+
+    /**
+     * Передает предмет поисковому движку после фиксации транзакции, чтобы после отката
+     * в индексе не остался несохраненный или измененный предмет.
+     *
+     * @param item сохраненный предмет
+     */
+    private void indexAfterCommit(Item item) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            searchEngine.index(item);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                searchEngine.index(item);
+            }
+        });
     }
 
     /**
@@ -130,12 +256,14 @@ public class ItemServiceImpl implements ItemService {
      *
      * @param items       исходная коллекция предметов
      * @param datesMap    таблица последних и следующих бронирований по Id предмета
-     * @param commentsMap таблица комментариев по Id предмета
+     * @param commentsMap таблица последних комментариев по Id предмета
+     * @param countsMap   таблица количества комментариев по Id предмета
      * @return обогащенная коллекция ItemDto
      */
     private Collection<ItemDto> enrichWithDatesAndComments(Collection<Item> items,
                                                            Map<Long, LastAndNextDate> datesMap,
-                                                           Map<Long, List<CommentDto>> commentsMap) {
+                                                           Map<Long, List<CommentDto>> commentsMap,
+                                                           Map<Long, Long> countsMap) {
 
         return items.stream()
                 .map(item -> {
@@ -148,6 +276,7 @@ public class ItemServiceImpl implements ItemService {
                     }
 
                     dto.setComments(commentsMap.getOrDefault(dto.getId(), Collections.emptyList()));
+                    dto.setCommentsCount(countsMap.getOrDefault(dto.getId(), 0L));
 
                     return dto;
                 })
@@ -155,45 +284,69 @@ public class ItemServiceImpl implements ItemService {
     }
 
     /**
-     * Обогащает ItemDto комментариями к предмету.
+     * Обогащает ItemDto последними комментариями к предмету и их общим количеством.
      *
-     * @param dto DTO предмета для обогащения
+     * @param dto           DTO предмета для обогащения
+     * @param comments      последние комментарии к предмету
+     * @param commentsCount общее количество комментариев
      * @return обогащенный ItemDto с комментариями
      */
-    private ItemDto enrichWithComments(ItemDto dto, Collection<Comment> comments) {
+    private ItemDto enrichWithComments(ItemDto dto, Collection<Comment> comments, long commentsCount) {
         Collection<CommentDto> commentsDto = comments.stream()
                 .map(CommentMapper::toCommentDto)
                 .toList();
 
         dto.setComments(commentsDto);
+        dto.setCommentsCount(commentsCount);
 
         return dto;
     }
 
     /**
      * Создает таблицу последних и следующих бронирований для предметов владельца.
+     * Даты читаются из поддерживаемой проекции, а не агрегируются по всей истории бронирований.
      *
      * @param ownerId ID владельца предметов
      * @return {@code Map<Long, LastAndNextDate>} где ключ - Id предмета
      */
     private Map<Long, LastAndNextDate> getDatesMap(Long ownerId) {
-        List<LastAndNextDate> dates = bookingRepository.findLastAndNextDatesByOwnerId(ownerId);
+        List<ItemBookingSummary> dates = summaryRepository.findByOwnerId(ownerId);
 
         return dates.stream()
                 .collect(Collectors.toMap(
                         LastAndNextDate::getItemId,
-                        Function.identity()
+                        Function.<LastAndNextDate>identity()
                 ));
     }
 
     /**
-     * Создает таблицу комментариев для всех предметов владельца.
+     * Создает таблицу последних комментариев для всех предметов владельца.
      *
      * @param ownerId ID владельца предметов
      * @return {@code Map<Long, CommentDto>} где ключ - Id предмета
      */
     private Map<Long, List<CommentDto>> getCommentsMap(Long ownerId) {
-        Collection<Comment> comments = commentRepository.findByItemOwnerId(ownerId);
+        return groupByItemId(latestComments.findByItemOwnerId(ownerId, LATEST_COMMENTS_LIMIT));
+    }
+
+    /**
+     * Создает таблицу количества комментариев по счетчикам предметов.
+     *
+     * @param stats счетчики комментариев
+     * @return {@code Map<Long, Long>} где ключ - Id предмета
+     */
+    private Map<Long, Long> toCountsMap(Collection<ItemCommentStats> stats) {
+        return stats.stream()
+                .collect(Collectors.toMap(ItemCommentStats::getItemId, ItemCommentStats::getCommentsCount));
+    }
+
+    /**
+     * Группирует комментарии по Id предмета.
+     *
+     * @param comments комментарии к нескольким предметам
+     * @return {@code Map<Long, CommentDto>} где ключ - Id предмета
+     */
+    private Map<Long, List<CommentDto>> groupByItemId(Collection<Comment> comments) {
         return comments.stream()
                 .collect(Collectors.groupingBy(
                         comment -> comment.getItem().getId(),
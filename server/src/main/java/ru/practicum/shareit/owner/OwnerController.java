@@ -0,0 +1,21 @@
+package ru.practicum.shareit.owner;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.owner.dto.OwnerDashboard;
+import ru.practicum.shareit.owner.service.OwnerDashboardService;
+
+import static ru.practicum.shareit.Constants.USER_ID_HEADER;
+
+@RestController
+@RequestMapping(path = "/owners")
+@RequiredArgsConstructor
+public class OwnerController {
+
+    private final OwnerDashboardService dashboardService;
+
+    @GetMapping("/me/dashboard")
+    public OwnerDashboard getDashboard(@RequestHeader(USER_ID_HEADER) Long ownerId) {
+        return dashboardService.getDashboard(ownerId);
+    }
+}
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.owner.dto;
+
+import ru.practicum.shareit.booking.dto.BookingResponse;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Сводка владельца: его предметы с последним и следующим бронированием и комментариями,
+ * а также первые страницы текущих, будущих и ожидающих подтверждения бронирований.
+ */
+public record OwnerDashboard(Collection<ItemDto> items,
+                             List<BookingResponse> current,
+                             List<BookingResponse> future,
+                             List<BookingResponse> waiting) {
+}
@@ -0,0 +1,8 @@
+package ru.practicum.shareit.owner.service;
+
+import ru.practicum.shareit.owner.dto.OwnerDashboard;
+
+public interface OwnerDashboardService {
+
+    OwnerDashboard getDashboard(Long ownerId);
+}
@@ -0,0 +1,73 @@
+package ru.practicum.shareit.owner.service;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import ru.practicum.shareit.Futures;
+import ru.practicum.shareit.booking.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingResponse;
+import ru.practicum.shareit.booking.enums.BookingState;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.owner.dto.OwnerDashboard;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static ru.practicum.shareit.Constants.DEFAULT_PAGE_SIZE;
+
+/**
+ * Собирает сводку владельца из предметов и бронирований. Части сводки запрашиваются параллельно
+ * в {@code applicationTaskExecutor} (виртуальные потоки, если они включены), каждая в своей транзакции
+ * и на своем соединении, поэтому время ответа равно самому долгому запросу, а не их сумме.
+ * <p>
+ * В последовательном режиме обогащения предметов сводка занимает до четырех соединений одновременно.
+ * При {@code shareit.item-enrichment.parallel=true} загрузка предметов сама соединение не держит,
+ * но ее этапы выполняются в общем пуле обогащения, каждый на своем соединении. Тогда к трем соединениям
+ * бронирований добавляются соединения этапов, сколько их успеет взять пул обогащения.
+ */
+@Service
+public class OwnerDashboardServiceImpl implements OwnerDashboardService {
+
+    private final ItemService itemService;
+    private final BookingService bookingService;
+    private final UserService userService;
+    private final AsyncTaskExecutor executor;
+
+    public OwnerDashboardServiceImpl(ItemService itemService,
+                                     BookingService bookingService,
+                                     UserService userService,
+                                     @Qualifier("applicationTaskExecutor") AsyncTaskExecutor executor) {
+        this.itemService = itemService;
+        this.bookingService = bookingService;
+        this.userService = userService;
+        this.executor = executor;
+    }
+
+    @Override
+    public OwnerDashboard getDashboard(Long ownerId) {
+        userService.throwIfUserNotFound(ownerId);
+
+        CompletableFuture<Collection<ItemDto>> items = async(() -> itemService.getItems(ownerId));
+        CompletableFuture<List<BookingResponse>> current = bookings(ownerId, BookingState.CURRENT);
+        CompletableFuture<List<BookingResponse>> future = bookings(ownerId, BookingState.FUTURE);
+        CompletableFuture<List<BookingResponse>> waiting = bookings(ownerId, BookingState.WAITING);
+
+        Futures.join(CompletableFuture.allOf(items, current, future, waiting));
+
+        return new OwnerDashboard(items.join(), current.join(), future.join(), waiting.join());
+    }
+
+    private CompletableFuture<List<BookingResponse>> bookings(Long ownerId, BookingState state) {
+        return async(() -> BookingMapper.toBookingResponses(
+                bookingService.findByOwnerAndState(ownerId, state, null, DEFAULT_PAGE_SIZE).bookings()));
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, executor);
+    }
+}
@@ -1,13 +1,21 @@
 package ru.practicum.shareit.request;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.request.dto.ItemRequestCreate;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.service.ItemRequestService;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collection;
 
+import static ru.practicum.shareit.Constants.DEFAULT_PAGE_SIZE;
 import static ru.practicum.shareit.Constants.USER_ID_HEADER;
 
 @RestController
@@ -16,6 +24,7 @@ import static ru.practicum.shareit.Constants.USER_ID_HEADER;
 public class ItemRequestController {
 
     private final ItemRequestService itemRequestService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ItemRequestDto addItemRequest(@RequestHeader(name = USER_ID_HEADER) Long requestorId,
@@ -24,17 +33,67 @@ public class ItemRequestController {
     }
 
     @GetMapping
-    public Collection<ItemRequestDto> getRequests(@RequestHeader(name = USER_ID_HEADER) Long userId) {
-        return itemRequestService.getRequests(userId);
+    public Collection<ItemRequestDto> getRequests(@RequestHeader(name = USER_ID_HEADER) Long userId,
+                                                  @RequestParam(required = false) Integer from,
+                                                  @RequestParam(required = false) Integer size) {
+        if (from == null && size == null) {
+            return itemRequestService.getRequests(userId);
+        }
+
+        return itemRequestService.getRequests(userId, offset(from), pageSize(size));
     }
 
     @GetMapping("/all")
-    public Collection<ItemRequestDto> getAllRequests() {
-        return itemRequestService.getAllRequests();
+    public Collection<ItemRequestDto> getAllRequests(@RequestParam(required = false) Integer from,
+                                                     @RequestParam(required = false) Integer size) {
+        if (from == null && size == null) {
+            return itemRequestService.getAllRequests();
+        }
+
+        return itemRequestService.getAllRequests(offset(from), pageSize(size));
+    }
+
+    /**
+     * Все запросы построчно в формате NDJSON. Ответ пишется порциями по мере чтения из базы,
+     * поэтому подходит для выгрузки всей таблицы.
+     */
+    @GetMapping(value = "/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAllRequests() {
+        ObjectWriter writer = objectMapper.writerFor(ItemRequestDto.class);
+
+        StreamingResponseBody body = out -> {
+            try {
+                itemRequestService.exportAllRequests(chunk -> {
+                    try {
+                        for (ItemRequestDto dto : chunk) {
+                            out.write(writer.writeValueAsBytes(dto));
+                            out.write('\n');
+                        }
+                        out.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping("/{requestId}")
     public ItemRequestDto getRequest(@PathVariable Long requestId) {
         return itemRequestService.getRequest(requestId);
     }
+
+    private static int offset(Integer from) {
+        return from == null ? 0 : from;
+    }
+
+    private static int pageSize(Integer size) {
+        return size == null ? DEFAULT_PAGE_SIZE : size;
+    }
 }
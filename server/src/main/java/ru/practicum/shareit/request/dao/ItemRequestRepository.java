@@ -1,11 +1,33 @@
 package ru.practicum.shareit.request.dao;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import ru.practicum.shareit.request.model.ItemRequest;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
 
     Collection<ItemRequest> findByRequestorIdOrderByCreatedDesc(Long requestorId);
+
+    List<ItemRequest> findByRequestorIdOrderByCreatedDesc(Long requestorId, Pageable pageable);
+
+    List<ItemRequest> findAllByOrderByCreatedDesc(Pageable pageable);
+
+    /**
+     * Читает все запросы курсором: драйвер держит в памяти не больше {@code fetch_size} строк.
+     * Поток нужно закрыть и читать внутри транзакции.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<ItemRequest> streamAllByOrderByCreatedDesc();
 }
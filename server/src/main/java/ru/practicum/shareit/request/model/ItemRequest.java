@@ -15,8 +15,11 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "item_requests", schema = "public")
 public class ItemRequest {
+    public static final String ID_SEQUENCE = "item_requests_seq";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = 50)
     private Long id;
     @Column(name = "description")
     private String description;
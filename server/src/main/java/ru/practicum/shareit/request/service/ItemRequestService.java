@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request.service;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
@@ -15,17 +16,36 @@ import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.validation.exceptions.NotFoundException;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static ru.practicum.shareit.Pagination.toPageable;
 
 @Service
 @RequiredArgsConstructor
 public class ItemRequestService {
 
+    /**
+     * Сколько запросов выгрузки обогащается предметами одним запросом {@code IN}.
+     */
+    public static final int EXPORT_CHUNK_SIZE = 500;
+
+    /**
+     * Сколько id запросов передается в один {@code IN}: длинный список портит план запроса
+     * и упирается в ограничение драйвера на число параметров.
+     */
+    public static final int IN_CHUNK_SIZE = 1000;
+
     private final ItemRequestRepository requestRepository;
     private final ItemRepository itemRepository;
+    private final EntityManager entityManager;
 
     public ItemRequestDto addItemRequest(ItemRequestCreate create, Long requestorId) {
         ItemRequest ir = requestRepository.save(ItemRequestMapper.toItemRequest(create, requestorId));
@@ -40,6 +60,14 @@ public class ItemRequestService {
         return enrichWithItems(irs);
     }
 
+    @Transactional(readOnly = true)
+    public Collection<ItemRequestDto> getRequests(Long userId, int from, int size) {
+        Collection<ItemRequest> irs = requestRepository.findByRequestorIdOrderByCreatedDesc(userId,
+                toPageable(from, size));
+
+        return enrichWithItems(irs);
+    }
+
     @Transactional(readOnly = true)
     public Collection<ItemRequestDto> getAllRequests() {
         Collection<ItemRequest> irs = requestRepository.findAll(Sort.by("created").descending());
@@ -47,6 +75,38 @@ public class ItemRequestService {
         return enrichWithItems(irs);
     }
 
+    @Transactional(readOnly = true)
+    public Collection<ItemRequestDto> getAllRequests(int from, int size) {
+        Collection<ItemRequest> irs = requestRepository.findAllByOrderByCreatedDesc(toPageable(from, size));
+
+        return enrichWithItems(irs);
+    }
+
+    /**
+     * Выгружает все запросы, от новых к старым, порциями по {@link #EXPORT_CHUNK_SIZE}.
+     * Запросы читаются курсором, после передачи порции ее сущности отсоединяются от контекста,
+     * поэтому расход памяти не зависит от размера таблицы.
+     *
+     * @param chunkConsumer получатель очередной порции с предметами
+     */
+    @Transactional(readOnly = true)
+    public void exportAllRequests(Consumer<List<ItemRequestDto>> chunkConsumer) {
+        try (Stream<ItemRequest> stream = requestRepository.streamAllByOrderByCreatedDesc()) {
+            Iterator<ItemRequest> iterator = stream.iterator();
+            List<ItemRequest> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+
+                if (chunk.size() == EXPORT_CHUNK_SIZE || !iterator.hasNext()) {
+                    chunkConsumer.accept(List.copyOf(enrichWithItems(chunk)));
+                    chunk.forEach(entityManager::detach);
+                    chunk.clear();
+                }
+            }
+        }
+    }
+
     @Transactional
     public ItemRequestDto getRequest(Long requestId) {
 
@@ -86,21 +146,29 @@ public class ItemRequestService {
     }
 
     /**
-     * Создает таблицу с представлениями предмета.
+     * Создает таблицу с представлениями предмета. Предметы загружаются порциями по {@link #IN_CHUNK_SIZE} id.
      *
      * @param ids список id запросов
      * @return {@code Map<Long, ItemShort>} где ключ - Id запроса
      */
     private Map<Long, List<ItemShort>> getNamesMap(Collection<Long> ids) {
-        Collection<ItemShortWithRequestId> nameAndUserIds = itemRepository.findAllByRequestIdIn(ids);
-
-        return nameAndUserIds.stream()
-                .collect(Collectors.groupingBy(
-                        ItemShortWithRequestId::getRequestId,
-                        Collectors.mapping(
-                                ItemMapper::toItemShort,
-                                Collectors.toList()
-                        )
-                ));
+        List<Long> idList = List.copyOf(ids);
+        Map<Long, List<ItemShort>> map = new HashMap<>();
+
+        for (int from = 0; from < idList.size(); from += IN_CHUNK_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(from + IN_CHUNK_SIZE, idList.size()));
+
+            itemRepository.findAllByRequestIdIn(chunk).stream()
+                    .collect(Collectors.groupingBy(
+                            ItemShortWithRequestId::getRequestId,
+                            Collectors.mapping(
+                                    ItemMapper::toItemShort,
+                                    Collectors.toList()
+                            )
+                    ))
+                    .forEach(map::put);
+        }
+
+        return map;
     }
 }
@@ -0,0 +1,125 @@
+package ru.practicum.shareit.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.user.dao.UserRepository;
+
+import java.util.BitSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Id существующих пользователей в памяти, один бит на id. Положительный ответ не требует обращения к базе,
+ * отсутствующий бит проверяется по базе, поэтому пользователи, созданные до загрузки или другим экземпляром
+ * сервера, не теряются. Пользователь, удаленный другим экземпляром, считается существующим до перезапуска.
+ * Id больше {@link Integer#MAX_VALUE} всегда проверяются по базе.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserIdRegistry {
+
+    private final UserRepository userRepository;
+
+    private final BitSet ids = new BitSet();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Число удалений. Id, найденный в базе до удаления, не должен вернуться в реестр после него.
+     */
+    private long removals;
+
+    /**
+     * Удаленные во время загрузки id, не пустой только пока идет загрузка.
+     */
+    private BitSet removedWhileLoading;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            removedWhileLoading = new BitSet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        BitSet loaded = new BitSet();
+        try (Stream<Long> stream = userRepository.streamAllIds()) {
+            stream.filter(UserIdRegistry::fits).forEach(id -> loaded.set(id.intValue()));
+        }
+
+        lock.writeLock().lock();
+        try {
+            loaded.andNot(removedWhileLoading);
+            ids.or(loaded);
+            removedWhileLoading = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Загружено {} id пользователей", loaded.cardinality());
+    }
+
+    public boolean exists(long userId) {
+        long observedRemovals;
+        lock.readLock().lock();
+        try {
+            if (fits(userId) && ids.get((int) userId)) {
+                return true;
+            }
+            observedRemovals = removals;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (userRepository.findById(userId).isEmpty()) {
+            return false;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (removals == observedRemovals && fits(userId)) {
+                ids.set((int) userId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return true;
+    }
+
+    public void register(long userId) {
+        if (!fits(userId)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            ids.set((int) userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void unregister(long userId) {
+        lock.writeLock().lock();
+        try {
+            removals++;
+            if (fits(userId)) {
+                ids.clear((int) userId);
+                if (removedWhileLoading != null) {
+                    removedWhileLoading.set((int) userId);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static boolean fits(long userId) {
+        return userId >= 0 && userId <= Integer.MAX_VALUE;
+    }
+}
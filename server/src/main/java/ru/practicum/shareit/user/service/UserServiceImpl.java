@@ -1,7 +1,12 @@
 package ru.practicum.shareit.user.service;
 
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
 import ru.practicum.shareit.user.UserMapper;
 import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.dto.UserDto;
@@ -13,6 +18,9 @@ import ru.practicum.shareit.validation.exceptions.NotFoundException;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final UserIdRegistry userIdRegistry;
+    private final ItemSearchEngine searchEngine;
 
     @Override
     public User getUser(Long userId) {
@@ -22,7 +30,9 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public User addUser(UserDto userDto) {
-        return userRepository.save(UserMapper.toUser(userDto));
+        User saved = userRepository.save(UserMapper.toUser(userDto));
+        userIdRegistry.register(saved.getId());
+        return saved;
     }
 
     @Override
@@ -38,10 +48,27 @@ public class UserServiceImpl implements UserService {
     public void deleteUser(Long userId) {
         throwIfUserNotFound(userId);
         userRepository.deleteById(userId);
+        userIdRegistry.unregister(userId);
+        // вещи и запросы пользователя удаляются каскадом в базе, мимо кэша второго уровня
+        entityManagerFactory.getCache().evict(Item.class);
+        removeItemsAfterCommit(userId);
+    }
+
+    private void removeItemsAfterCommit(Long ownerId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            searchEngine.removeByOwner(ownerId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                searchEngine.removeByOwner(ownerId);
+            }
+        });
     }
 
     public void throwIfUserNotFound(Long userId) {
-        if (!userRepository.existsById(userId)) {
+        if (!userIdRegistry.exists(userId)) {
             throw new NotFoundException("Пользователь с id " + userId + " не найден");
         }
     }
@@ -1,6 +1,7 @@
 package ru.practicum.shareit.validation;
 
 import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -8,6 +9,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import ru.practicum.shareit.validation.exceptions.BadRequestException;
+import ru.practicum.shareit.validation.exceptions.ConflictException;
 import ru.practicum.shareit.validation.exceptions.ForbiddenException;
 import ru.practicum.shareit.validation.exceptions.NotFoundException;
 
@@ -47,6 +49,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Collections.singletonMap("error", ex.getMessage()));
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<Map<String, String>> handleConflictException(ConflictException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Collections.singletonMap("error", ex.getMessage()));
+    }
+
+    /**
+     * Нарушение ограничения, обнаруженное при фиксации транзакции, приходит обернутым в исключение Spring.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Map<String, String>> handleDataIntegrityViolationException(
+            DataIntegrityViolationException ex) {
+
+        if (ex.getCause() instanceof ConstraintViolationException cause) {
+            return handleDataIntegrityViolationException(cause);
+        }
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Collections.singletonMap("error", "BAD_REQUEST"));
+    }
+
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<Map<String, String>> handleDataIntegrityViolationException(ConstraintViolationException ex) {
 
@@ -54,6 +76,11 @@ public class GlobalExceptionHandler {
             return ResponseEntity.status(HttpStatus.CONFLICT).body(Collections.singletonMap("error", "Email is taken"));
         }
 
+        if (ex.getConstraintName() != null && ex.getConstraintName().equals("ex_bookings_item_period")) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Collections.singletonMap("error", "Предмет уже забронирован на эти даты"));
+        }
+
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(Collections.singletonMap("error", "BAD_REQUEST"));
     }
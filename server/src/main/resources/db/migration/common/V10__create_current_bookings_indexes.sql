@@ -0,0 +1,6 @@
+-- Текущие бронирования: WHERE booker_id = ? AND start_date <= ? AND end_date > ?
+CREATE INDEX IF NOT EXISTS ix_bookings_booker_start_end ON bookings (booker_id, start_date, end_date);
+
+-- То же для предметов владельца; заменяет индекс (item_id, start_date), который является его префиксом
+CREATE INDEX IF NOT EXISTS ix_bookings_item_start_end ON bookings (item_id, start_date, end_date);
+DROP INDEX IF EXISTS ix_bookings_item_start;
@@ -0,0 +1,2 @@
+-- Страницы всех запросов: ORDER BY created_at DESC LIMIT ? OFFSET ?
+CREATE INDEX IF NOT EXISTS ix_item_requests_created ON item_requests (created_at DESC);
@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS item_comment_stats (
+    item_id BIGINT NOT NULL,
+    comments_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_item_comment_stats PRIMARY KEY (item_id),
+    FOREIGN KEY (item_id) REFERENCES items(id) ON DELETE CASCADE
+);
+
+INSERT INTO item_comment_stats (item_id, comments_count)
+SELECT i.id, (SELECT COUNT(*) FROM comments c WHERE c.item_id = i.id) FROM items i;
+
+-- Последние комментарии предмета и постраничный список: WHERE item_id = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS ix_comments_item_created ON comments (item_id, created_at DESC, id DESC);
+DROP INDEX IF EXISTS ix_comments_item;
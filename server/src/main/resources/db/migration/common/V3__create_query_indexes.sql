@@ -0,0 +1,13 @@
+-- Списки бронирований арендатора: WHERE booker_id = ? ORDER BY end_date DESC
+CREATE INDEX IF NOT EXISTS ix_bookings_booker_end ON bookings (booker_id, end_date DESC);
+
+-- Бронирования предметов владельца, проверка аренды перед комментарием и проекция последнего/следующего бронирования
+CREATE INDEX IF NOT EXISTS ix_bookings_item_status_end ON bookings (item_id, status, end_date);
+CREATE INDEX IF NOT EXISTS ix_bookings_item_start ON bookings (item_id, start_date);
+
+CREATE INDEX IF NOT EXISTS ix_items_owner ON items (owner_id);
+CREATE INDEX IF NOT EXISTS ix_items_request ON items (request_id);
+
+CREATE INDEX IF NOT EXISTS ix_comments_item ON comments (item_id);
+
+CREATE INDEX IF NOT EXISTS ix_item_requests_requestor_created ON item_requests (requestor_id, created_at DESC);
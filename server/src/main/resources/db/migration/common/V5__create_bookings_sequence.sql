@@ -0,0 +1,3 @@
+-- Идентификаторы бронирований выдаются Hibernate пачками по 50 (оптимизатор pooled-lo), что позволяет
+-- отправлять вставки пакетами JDBC. Шаг последовательности должен совпадать с allocationSize в Booking.
+CREATE SEQUENCE IF NOT EXISTS bookings_seq START WITH 1 INCREMENT BY 50;
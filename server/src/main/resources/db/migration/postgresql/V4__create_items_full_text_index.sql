@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS ix_items_fts ON items USING GIN (to_tsvector('simple', name || ' ' || description));
@@ -0,0 +1,2 @@
+-- Продолжаем нумерацию после бронирований, созданных через IDENTITY
+SELECT setval('bookings_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM bookings), false);
@@ -0,0 +1,5 @@
+-- Продолжаем нумерацию после строк, созданных через IDENTITY
+SELECT setval('users_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM users), false);
+SELECT setval('item_requests_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM item_requests), false);
+SELECT setval('items_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM items), false);
+SELECT setval('comments_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM comments), false);
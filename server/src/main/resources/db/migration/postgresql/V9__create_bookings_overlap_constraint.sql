@@ -0,0 +1,8 @@
+-- Активные бронирования одного предмета не должны пересекаться. btree_gist нужен для сравнения item_id
+-- в GiST-индексе. Если в таблице уже есть пересечения, миграция упадет: их нужно разобрать до обновления.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE bookings
+    ADD CONSTRAINT ex_bookings_item_period
+    EXCLUDE USING gist (item_id WITH =, tsrange(start_date, end_date) WITH &&)
+    WHERE (status IN ('WAITING', 'APPROVED'));
@@ -20,6 +20,7 @@ import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -74,6 +75,72 @@ public class BookingControllerIntegrationTest {
         assertThat(bookings.getFirst().getStatus()).isEqualTo(BookingStatus.WAITING);
     }
 
+    @Test
+    public void shouldRejectOverlappingBooking() throws Exception {
+        User owner = userRepository.save(Random.getUser());
+        User booker = userRepository.save(Random.getUser());
+        Item item = itemRepository.save(Item.builder()
+                .name("item")
+                .description("desc")
+                .isAvailable(true)
+                .ownerId(owner.getId())
+                .build());
+
+        BookingDto first = Random.getBookingDto(item.getId());
+        BookingDto overlapping = Random.getBookingDto(item.getId());
+        overlapping.setStart(first.getStart().plusHours(12));
+        overlapping.setEnd(first.getEnd().plusHours(12));
+
+        mockMvc.perform(post("/bookings")
+                        .header(Constants.USER_ID_HEADER, booker.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(first)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/bookings")
+                        .header(Constants.USER_ID_HEADER, booker.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(overlapping)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    public void shouldCreateBookingsInBatch() throws Exception {
+        User owner = userRepository.save(Random.getUser());
+        User booker = userRepository.save(Random.getUser());
+        Item item = itemRepository.save(Item.builder()
+                .name("item")
+                .description("desc")
+                .isAvailable(true)
+                .ownerId(owner.getId())
+                .build());
+
+        List<BookingDto> dtos = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < 60; i++) {
+            BookingDto dto = Random.getBookingDto(item.getId());
+            dto.setStart(start.plusHours(i));
+            dto.setEnd(start.plusHours(i + 1));
+            dtos.add(dto);
+        }
+        dtos.add(Random.getBookingDto(item.getId() + 1000));
+
+        mockMvc.perform(post("/bookings/batch")
+                        .header(Constants.USER_ID_HEADER, booker.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dtos)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(61))
+                .andExpect(jsonPath("$[0].booking.status").value("WAITING"))
+                .andExpect(jsonPath("$[59].booking.id").exists())
+                .andExpect(jsonPath("$[60].booking").doesNotExist())
+                .andExpect(jsonPath("$[60].error").exists());
+
+        List<Booking> bookings = bookingRepository.findByBookerIdOrderByEndDesc(booker.getId());
+        assertThat(bookings).hasSize(60);
+        assertThat(bookings).extracting(Booking::getId).doesNotHaveDuplicates();
+    }
+
     @Test
     public void shouldUpdateBookingStatus() throws Exception {
         User owner = userRepository.save(Random.getUser());
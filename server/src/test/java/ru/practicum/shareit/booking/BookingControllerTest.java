@@ -8,7 +8,9 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.Constants;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingPage;
 import ru.practicum.shareit.booking.enums.BookingStatus;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.service.BookingService;
@@ -17,10 +19,12 @@ import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -57,6 +61,29 @@ public class BookingControllerTest {
                 .andExpect(jsonPath("$.status").value("WAITING"));
     }
 
+    @Test
+    public void shouldCreateBookingsInBatch() throws Exception {
+        BookingDto bookingDto = new BookingDto();
+        bookingDto.setItemId(1L);
+        bookingDto.setStart(LocalDateTime.now().plusDays(1));
+        bookingDto.setEnd(LocalDateTime.now().plusDays(2));
+
+        Booking booking = new Booking();
+        booking.setId(1L);
+        booking.setStatus(BookingStatus.WAITING);
+        when(bookingService.createBookings(anyLong(), anyList())).thenReturn(List.of(
+                BookingBatchResult.created(booking),
+                BookingBatchResult.failed("Предмет не доступен")));
+
+        mockMvc.perform(post("/bookings/batch")
+                        .header(Constants.USER_ID_HEADER, 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(bookingDto, bookingDto))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].booking.id").value(1))
+                .andExpect(jsonPath("$[1].error").value("Предмет не доступен"));
+    }
+
     @Test
     public void shouldUpdateBookingStatus() throws Exception {
         Booking booking = new Booking();
@@ -88,21 +115,23 @@ public class BookingControllerTest {
 
     @Test
     public void shouldFindByBookerAndState() throws Exception {
-        Booking booking = new Booking();
-        booking.setId(1L);
+        Booking booking = listedBooking();
         when(bookingService.findByBookerAndState(anyLong(), any())).thenReturn(Collections.singletonList(booking));
 
         mockMvc.perform(get("/bookings")
                         .header(Constants.USER_ID_HEADER, 1L)
                         .param("state", "ALL"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1));
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].item.name").value("item"))
+                .andExpect(jsonPath("$[0].item.description").doesNotExist())
+                .andExpect(jsonPath("$[0].booker.id").value(2))
+                .andExpect(jsonPath("$[0].booker.email").doesNotExist());
     }
 
     @Test
     public void shouldFindByOwnerAndState() throws Exception {
-        Booking booking = new Booking();
-        booking.setId(1L);
+        Booking booking = listedBooking();
         when(bookingService.findByOwnerAndState(anyLong(), any())).thenReturn(Collections.singletonList(booking));
 
         mockMvc.perform(get("/bookings/owner")
@@ -111,4 +140,50 @@ public class BookingControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldFindPageByBookerAndState() throws Exception {
+        Booking booking = listedBooking();
+        when(bookingService.findByBookerAndState(anyLong(), any(), any(), anyInt()))
+                .thenReturn(new BookingPage(List.of(booking), "next"));
+
+        mockMvc.perform(get("/bookings")
+                        .header(Constants.USER_ID_HEADER, 1L)
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(Constants.NEXT_CURSOR_HEADER, "next"))
+                .andExpect(jsonPath("$[0].id").value(1));
+    }
+
+    @Test
+    public void shouldFindLastPageByOwnerAndState() throws Exception {
+        when(bookingService.findByOwnerAndState(anyLong(), any(), any(), anyInt()))
+                .thenReturn(new BookingPage(List.of(), null));
+
+        mockMvc.perform(get("/bookings/owner")
+                        .header(Constants.USER_ID_HEADER, 1L)
+                        .param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(Constants.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$").isEmpty());
+    }
+
+    private static Booking listedBooking() {
+        Item item = new Item();
+        item.setId(1L);
+        item.setName("item");
+        item.setDescription("description");
+
+        User booker = new User();
+        booker.setId(2L);
+        booker.setName("booker");
+        booker.setEmail("booker@mail.ru");
+
+        Booking booking = new Booking();
+        booking.setId(1L);
+        booking.setItem(item);
+        booking.setBooker(booker);
+        booking.setStatus(BookingStatus.APPROVED);
+        return booking;
+    }
+}
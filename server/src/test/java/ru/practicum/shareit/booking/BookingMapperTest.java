@@ -2,7 +2,11 @@ package ru.practicum.shareit.booking;
 
 import org.junit.jupiter.api.Test;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingResponse;
+import ru.practicum.shareit.booking.enums.BookingStatus;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
 
@@ -23,4 +27,29 @@ public class BookingMapperTest {
         assertEquals(bookingDto.getStart(), booking.getStart());
         assertEquals(bookingDto.getEnd(), booking.getEnd());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldMapBookingToBookingResponse() {
+        Item item = Item.builder().id(3L).name("drill").description("desc").ownerId(1L).build();
+        User booker = new User();
+        booker.setId(2L);
+        booker.setName("booker");
+        Booking booking = Booking.builder()
+                .id(1L)
+                .start(LocalDateTime.of(2023, 1, 1, 10, 0))
+                .end(LocalDateTime.of(2023, 1, 2, 10, 0))
+                .item(item)
+                .booker(booker)
+                .status(BookingStatus.APPROVED)
+                .build();
+
+        BookingResponse response = BookingMapper.toBookingResponse(booking);
+
+        assertEquals(1L, response.id());
+        assertEquals(booking.getStart(), response.start());
+        assertEquals(booking.getEnd(), response.end());
+        assertEquals(BookingStatus.APPROVED, response.status());
+        assertEquals(new BookingResponse.BookedItem(3L, "drill"), response.item());
+        assertEquals(new BookingResponse.Booker(2L, "booker"), response.booker());
+    }
+}
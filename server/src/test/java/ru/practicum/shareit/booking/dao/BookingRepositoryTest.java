@@ -5,7 +5,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import ru.practicum.shareit.Random;
+import ru.practicum.shareit.booking.BookingCursor;
 import ru.practicum.shareit.booking.dto.LastAndNextDate;
 import ru.practicum.shareit.booking.enums.BookingStatus;
 import ru.practicum.shareit.booking.model.Booking;
@@ -15,7 +19,9 @@ import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 
@@ -29,7 +35,7 @@ public class BookingRepositoryTest {
     private final ItemRepository itemRepository;
 
     @Test
-    public void shouldFindLastAndNextDatesByOwnerId() {
+    public void shouldFindLastAndNextDatesByItemId() {
         User owner = userRepository.save(Random.getUser());
         User booker = userRepository.save(Random.getUser());
         Item item = itemRepository.save(Item.builder()
@@ -39,18 +45,42 @@ public class BookingRepositoryTest {
                 .ownerId(owner.getId())
                 .build());
 
-        Booking pastBooking = bookingRepository.save(Booking.builder()
-                .start(LocalDateTime.now().minusDays(2))
-                .end(LocalDateTime.now().minusDays(1))
-                .item(item)
-                .booker(booker)
-                .status(BookingStatus.APPROVED)
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        saveBooking(item, booker, now.minusDays(2), BookingStatus.APPROVED);
+        saveBooking(item, booker, now.plusDays(1), BookingStatus.REJECTED);
+        saveBooking(item, booker, now.plusDays(2), BookingStatus.WAITING);
+
+        Optional<LastAndNextDate> dates = bookingRepository.findLastAndNextDatesByItemId(item.getId(),
+                BookingStatus.REJECTED, now);
+
+        assertThat(dates).isPresent();
+        assertThat(dates.get().getItemId()).isEqualTo(item.getId());
+        assertThat(dates.get().getLastBooking()).isEqualTo(now.minusDays(2));
+        assertThat(dates.get().getNextBooking()).isEqualTo(now.plusDays(2));
+    }
+
+    @Test
+    public void shouldNotFindLastAndNextDatesForItemWithoutBookings() {
+        User owner = userRepository.save(Random.getUser());
+        Item item = itemRepository.save(Item.builder()
+                .name("item")
+                .description("desc")
+                .isAvailable(true)
+                .ownerId(owner.getId())
                 .build());
 
-        List<LastAndNextDate> dates = bookingRepository.findLastAndNextDatesByOwnerId(owner.getId());
+        assertThat(bookingRepository.findLastAndNextDatesByItemId(item.getId(), BookingStatus.REJECTED,
+                LocalDateTime.now())).isEmpty();
+    }
 
-        assertThat(dates).hasSize(1);
-        assertThat(dates.getFirst().getItemId()).isEqualTo(item.getId());
+    private void saveBooking(Item item, User booker, LocalDateTime start, BookingStatus status) {
+        bookingRepository.save(Booking.builder()
+                .start(start)
+                .end(start.plusHours(1))
+                .item(item)
+                .booker(booker)
+                .status(status)
+                .build());
     }
 
     @Test
@@ -141,7 +171,7 @@ public class BookingRepositoryTest {
     }
 
     @Test
-    public void shouldFindByBookerIdAndStartIsBeforeAndEndIsBeforeOrderByEndDesc() {
+    public void shouldFindByBookerIdAndStartLessThanEqualAndEndAfterOrderByEndDesc() {
         User booker = userRepository.save(Random.getUser());
         User owner = userRepository.save(Random.getUser());
         Item item = itemRepository.save(Item.builder()
@@ -151,21 +181,36 @@ public class BookingRepositoryTest {
                 .ownerId(owner.getId())
                 .build());
 
+        LocalDateTime now = LocalDateTime.now();
         bookingRepository.save(Booking.builder()
-                .start(LocalDateTime.now().minusDays(2))
-                .end(LocalDateTime.now().minusDays(1))
+                .start(now.minusDays(2))
+                .end(now.minusDays(1))
+                .item(item)
+                .booker(booker)
+                .status(BookingStatus.APPROVED)
+                .build());
+        Booking current = bookingRepository.save(Booking.builder()
+                .start(now.minusDays(1))
+                .end(now.plusDays(1))
+                .item(item)
+                .booker(booker)
+                .status(BookingStatus.APPROVED)
+                .build());
+        bookingRepository.save(Booking.builder()
+                .start(now.plusDays(1))
+                .end(now.plusDays(2))
                 .item(item)
                 .booker(booker)
                 .status(BookingStatus.APPROVED)
                 .build());
 
-        List<Booking> bookings = bookingRepository.findByBookerIdAndStartIsBeforeAndEndIsBeforeOrderByEndDesc(
+        List<Booking> bookings = bookingRepository.findByBookerIdAndStartLessThanEqualAndEndAfterOrderByEndDesc(
                 booker.getId(),
-                LocalDateTime.now(),
-                LocalDateTime.now()
+                now,
+                now
         );
 
-        assertThat(bookings).hasSize(1);
+        assertThat(bookings).extracting(Booking::getId).containsExactly(current.getId());
     }
 
     @Test
@@ -275,7 +320,7 @@ public class BookingRepositoryTest {
     }
 
     @Test
-    public void shouldFindByItemOwnerIdAndStartIsBeforeAndEndIsBeforeOrderByEndDesc() {
+    public void shouldFindByItemOwnerIdAndStartLessThanEqualAndEndAfterOrderByEndDesc() {
         User owner = userRepository.save(Random.getUser());
         User booker = userRepository.save(Random.getUser());
         Item item = itemRepository.save(Item.builder()
@@ -285,21 +330,36 @@ public class BookingRepositoryTest {
                 .ownerId(owner.getId())
                 .build());
 
+        LocalDateTime now = LocalDateTime.now();
         bookingRepository.save(Booking.builder()
-                .start(LocalDateTime.now().minusDays(2))
-                .end(LocalDateTime.now().minusDays(1))
+                .start(now.minusDays(2))
+                .end(now.minusDays(1))
+                .item(item)
+                .booker(booker)
+                .status(BookingStatus.APPROVED)
+                .build());
+        Booking current = bookingRepository.save(Booking.builder()
+                .start(now.minusDays(1))
+                .end(now.plusDays(1))
+                .item(item)
+                .booker(booker)
+                .status(BookingStatus.APPROVED)
+                .build());
+        bookingRepository.save(Booking.builder()
+                .start(now.plusDays(1))
+                .end(now.plusDays(2))
                 .item(item)
                 .booker(booker)
                 .status(BookingStatus.APPROVED)
                 .build());
 
-        List<Booking> bookings = bookingRepository.findByItemOwnerIdAndStartIsBeforeAndEndIsBeforeOrderByEndDesc(
+        List<Booking> bookings = bookingRepository.findByItemOwnerIdAndStartLessThanEqualAndEndAfterOrderByEndDesc(
                 owner.getId(),
-                LocalDateTime.now(),
-                LocalDateTime.now()
+                now,
+                now
         );
 
-        assertThat(bookings).hasSize(1);
+        assertThat(bookings).extracting(Booking::getId).containsExactly(current.getId());
     }
 
     @Test
@@ -355,4 +415,75 @@ public class BookingRepositoryTest {
 
         assertThat(bookings).hasSize(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldScrollByBookerIdOrderByEndDescIdDesc() {
+        User booker = userRepository.save(Random.getUser());
+        User owner = userRepository.save(Random.getUser());
+        Item item = itemRepository.save(Item.builder()
+                .name("item")
+                .description("desc")
+                .isAvailable(true)
+                .ownerId(owner.getId())
+                .build());
+
+        LocalDateTime end = LocalDateTime.now().plusDays(5).truncatedTo(ChronoUnit.MICROS);
+        for (int i = 0; i < 3; i++) {
+            bookingRepository.save(Booking.builder()
+                    .start(LocalDateTime.now().plusDays(1))
+                    .end(end)
+                    .item(item)
+                    .booker(booker)
+                    .status(BookingStatus.WAITING)
+                    .build());
+        }
+
+        Window<Booking> first = bookingRepository.findByBookerIdOrderByEndDescIdDesc(
+                booker.getId(), ScrollPosition.keyset(), Limit.of(2));
+
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+
+        Window<Booking> second = bookingRepository.findByBookerIdOrderByEndDescIdDesc(
+                booker.getId(), BookingCursor.decode(BookingCursor.encode(first.getContent().getLast())), Limit.of(2));
+
+        assertThat(second.getContent()).hasSize(1);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.getContent().getFirst().getId()).isLessThan(first.getContent().getLast().getId());
+    }
+
+    @Test
+    public void shouldScrollByItemOwnerIdAndStatusIsOrderByEndDescIdDesc() {
+        User owner = userRepository.save(Random.getUser());
+        User booker = userRepository.save(Random.getUser());
+        Item item = itemRepository.save(Item.builder()
+                .name("item")
+                .description("desc")
+                .isAvailable(true)
+                .ownerId(owner.getId())
+                .build());
+
+        Booking later = bookingRepository.save(Booking.builder()
+                .start(LocalDateTime.now().plusDays(3))
+                .end(LocalDateTime.now().plusDays(4))
+                .item(item)
+                .booker(booker)
+                .status(BookingStatus.WAITING)
+                .build());
+
+        bookingRepository.save(Booking.builder()
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .item(item)
+                .booker(booker)
+                .status(BookingStatus.REJECTED)
+                .build());
+
+        Window<Booking> window = bookingRepository.findByItemOwnerIdAndStatusIsOrderByEndDescIdDesc(
+                owner.getId(), BookingStatus.WAITING, ScrollPosition.keyset(), Limit.of(10));
+
+        assertThat(window.getContent()).hasSize(1);
+        assertThat(window.getContent().getFirst().getId()).isEqualTo(later.getId());
+        assertThat(window.hasNext()).isFalse();
+    }
+}
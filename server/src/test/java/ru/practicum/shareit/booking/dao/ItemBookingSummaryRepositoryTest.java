@@ -0,0 +1,88 @@
+package ru.practicum.shareit.booking.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import ru.practicum.shareit.Random;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ItemBookingSummaryRepositoryTest {
+
+    private final ItemBookingSummaryRepository summaryRepository;
+    private final BookingRepository bookingRepository;
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+
+    @Test
+    public void shouldFindByOwnerId() {
+        User owner = userRepository.save(Random.getUser());
+        User other = userRepository.save(Random.getUser());
+        Item item = saveItem(owner);
+        Item otherItem = saveItem(other);
+
+        summaryRepository.save(new ItemBookingSummary(item.getId(), LocalDateTime.now(), null));
+        summaryRepository.save(new ItemBookingSummary(otherItem.getId(), LocalDateTime.now(), null));
+
+        assertThat(summaryRepository.findByOwnerId(owner.getId()))
+                .extracting(ItemBookingSummary::getItemId)
+                .containsExactly(item.getId());
+    }
+
+    @Test
+    public void shouldFindItemIdsWithNextBookingBefore() {
+        User owner = userRepository.save(Random.getUser());
+        Item started = saveItem(owner);
+        Item upcoming = saveItem(owner);
+        LocalDateTime now = LocalDateTime.now();
+
+        summaryRepository.save(new ItemBookingSummary(started.getId(), null, now.minusMinutes(1)));
+        summaryRepository.save(new ItemBookingSummary(upcoming.getId(), null, now.plusDays(1)));
+
+        assertThat(summaryRepository.findItemIdsWithNextBookingBefore(now)).containsExactly(started.getId());
+    }
+
+    @Test
+    public void shouldFindItemIdsWithoutSummary() {
+        User owner = userRepository.save(Random.getUser());
+        User booker = userRepository.save(Random.getUser());
+        Item summarized = saveItem(owner);
+        Item missing = saveItem(owner);
+
+        for (Item item : new Item[]{summarized, missing}) {
+            bookingRepository.save(Booking.builder()
+                    .start(LocalDateTime.now().plusDays(1))
+                    .end(LocalDateTime.now().plusDays(2))
+                    .item(item)
+                    .booker(booker)
+                    .status(BookingStatus.WAITING)
+                    .build());
+        }
+        summaryRepository.save(new ItemBookingSummary(summarized.getId(), null, null));
+
+        assertThat(summaryRepository.findItemIdsWithoutSummary()).containsExactly(missing.getId());
+    }
+
+    private Item saveItem(User owner) {
+        return itemRepository.save(Item.builder()
+                .name("item")
+                .description("desc")
+                .isAvailable(true)
+                .ownerId(owner.getId())
+                .build());
+    }
+}
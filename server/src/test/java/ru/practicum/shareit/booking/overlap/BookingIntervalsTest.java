@@ -0,0 +1,66 @@
+package ru.practicum.shareit.booking.overlap;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BookingIntervalsTest {
+
+    private final LocalDateTime base = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private final BookingIntervals intervals = new BookingIntervals();
+
+    @Test
+    public void shouldFindPeriodStartedBeforeAndPeriodsStartedInside() {
+        intervals.add(period(1L, 0, 10));
+        intervals.add(period(2L, 12, 14));
+        intervals.add(period(3L, 16, 20));
+        intervals.add(period(4L, 30, 40));
+
+        assertThat(intervals.overlapping(at(5), at(18)))
+                .extracting(BookingIntervals.Period::bookingId)
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    public void shouldAllowAdjacentPeriods() {
+        assertThat(intervals.add(period(1L, 0, 10))).isTrue();
+        assertThat(intervals.add(period(2L, 10, 20))).isTrue();
+        assertThat(intervals.add(period(3L, -5, 0))).isTrue();
+
+        assertThat(intervals.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldNotAddOverlappingPeriod() {
+        intervals.add(period(1L, 10, 20));
+
+        assertThat(intervals.add(period(2L, 10, 20))).isFalse();
+        assertThat(intervals.add(period(3L, 5, 11))).isFalse();
+        assertThat(intervals.add(period(4L, 19, 25))).isFalse();
+        assertThat(intervals.add(period(5L, 12, 15))).isFalse();
+        assertThat(intervals.add(period(6L, 0, 30))).isFalse();
+
+        assertThat(intervals.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRemoveOnlySameBooking() {
+        intervals.add(period(1L, 0, 10));
+
+        intervals.remove(period(2L, 0, 10));
+        assertThat(intervals.isEmpty()).isFalse();
+
+        intervals.remove(period(1L, 0, 10));
+        assertThat(intervals.isEmpty()).isTrue();
+    }
+
+    private BookingIntervals.Period period(Long bookingId, int startHour, int endHour) {
+        return new BookingIntervals.Period(bookingId, at(startHour), at(endHour));
+    }
+
+    private LocalDateTime at(int hour) {
+        return base.plusHours(hour);
+    }
+}
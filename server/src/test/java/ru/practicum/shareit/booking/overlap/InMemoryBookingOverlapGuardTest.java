@@ -0,0 +1,130 @@
+package ru.practicum.shareit.booking.overlap;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.monitoring.VirtualThreadPinningMonitor;
+import ru.practicum.shareit.validation.exceptions.ConflictException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class InMemoryBookingOverlapGuardTest {
+
+    private static final int PINNING_CHECKS = 20;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @InjectMocks
+    private InMemoryBookingOverlapGuard guard;
+
+    private final LocalDateTime start = LocalDateTime.of(2030, 1, 1, 10, 0);
+    private final Item item = Item.builder().id(1L).build();
+
+    @Test
+    public void shouldDetectOverlapWithReservedBooking() {
+        guard.reserve(booking(1L, start, start.plusDays(2)));
+        when(bookingRepository.existsByIdAndStatusIn(1L, BookingStatus.ACTIVE)).thenReturn(true);
+
+        assertThat(guard.hasOverlap(1L, start.plusDays(1), start.plusDays(3))).isTrue();
+        assertThat(guard.hasOverlap(1L, start.plusDays(2), start.plusDays(3))).isFalse();
+        assertThat(guard.hasOverlap(2L, start, start.plusDays(1))).isFalse();
+    }
+
+    @Test
+    public void shouldThrowConflictExceptionWhenReservingTakenPeriod() {
+        guard.reserve(booking(1L, start, start.plusDays(2)));
+        when(bookingRepository.existsByIdAndStatusIn(1L, BookingStatus.ACTIVE)).thenReturn(true);
+
+        assertThatThrownBy(() -> guard.reserve(booking(2L, start.plusDays(1), start.plusDays(3))))
+                .isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    public void shouldForgetBookingsDeletedFromDatabase() {
+        guard.reserve(booking(1L, start, start.plusDays(2)));
+        when(bookingRepository.existsByIdAndStatusIn(1L, BookingStatus.ACTIVE)).thenReturn(false);
+
+        assertThat(guard.hasOverlap(1L, start, start.plusDays(1))).isFalse();
+
+        guard.reserve(booking(2L, start, start.plusDays(1)));
+    }
+
+    @Test
+    public void shouldFreePeriodOfReleasedBooking() {
+        Booking booking = booking(1L, start, start.plusDays(2));
+        guard.reserve(booking);
+
+        guard.release(booking);
+
+        assertThat(guard.hasOverlap(1L, start, start.plusDays(2))).isFalse();
+    }
+
+    @Test
+    public void shouldNotPinVirtualThreadWhileCheckingDatabase() throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(registry, Duration.ofMillis(1));
+        monitor.start();
+        try {
+            guard.reserve(booking(1L, start, start.plusDays(2)));
+            when(bookingRepository.existsByIdAndStatusIn(1L, BookingStatus.ACTIVE)).thenAnswer(invocation -> {
+                Thread.sleep(10);
+                return true;
+            });
+
+            for (int i = 0; i < PINNING_CHECKS; i++) {
+                Thread.ofVirtual().start(() -> guard.hasOverlap(1L, start, start.plusDays(1))).join();
+            }
+
+            // контрольная блокировка внутри монитора: ее события приходят после событий проверок
+            int controls = 0;
+            while (pinnedCount(registry) == 0 && controls < 75) {
+                Thread.ofVirtual().start(InMemoryBookingOverlapGuardTest::sleepWhileHoldingMonitor).join();
+                controls++;
+                Thread.sleep(200);
+            }
+
+            assertThat(pinnedCount(registry)).isPositive().isLessThanOrEqualTo(controls);
+        } finally {
+            monitor.stop();
+        }
+    }
+
+    private static double pinnedCount(SimpleMeterRegistry registry) {
+        return registry.get("jvm.threads.virtual.pinned").counter().count();
+    }
+
+    private static void sleepWhileHoldingMonitor() {
+        Object lock = new Object();
+        synchronized (lock) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Booking booking(Long id, LocalDateTime start, LocalDateTime end) {
+        return Booking.builder()
+                .id(id)
+                .item(item)
+                .start(start)
+                .end(end)
+                .status(BookingStatus.WAITING)
+                .build();
+    }
+}
@@ -0,0 +1,122 @@
+package ru.practicum.shareit.booking.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.Random;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.enums.BookingState;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Число запросов на список бронирований не зависит от количества разных предметов и арендаторов в нем.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class BookingQueryCountTest {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void ownerListShouldUseConstantNumberOfQueries() {
+        User single = ownerWithBookings(1);
+        User many = ownerWithBookings(5);
+
+        long singleQueries = countQueries(() -> bookingService.findByOwnerAndState(single.getId(), BookingState.ALL));
+        long manyQueries = countQueries(() -> bookingService.findByOwnerAndState(many.getId(), BookingState.ALL));
+
+        assertThat(manyQueries).isEqualTo(singleQueries).isEqualTo(1);
+    }
+
+    @Test
+    public void bookerPageShouldUseConstantNumberOfQueries() {
+        User owner = userService.addUser(userDto());
+        User single = userService.addUser(userDto());
+        User many = userService.addUser(userDto());
+        book(newItem(owner), single);
+        for (int i = 0; i < 5; i++) {
+            book(newItem(owner), many);
+        }
+
+        long singleQueries = countQueries(() ->
+                bookingService.findByBookerAndState(single.getId(), BookingState.ALL, null, 10));
+        long manyQueries = countQueries(() ->
+                bookingService.findByBookerAndState(many.getId(), BookingState.ALL, null, 10));
+
+        assertThat(manyQueries).isEqualTo(singleQueries).isEqualTo(1);
+    }
+
+    private long countQueries(Runnable call) {
+        statistics.clear();
+        call.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User ownerWithBookings(int count) {
+        User owner = userService.addUser(userDto());
+        for (int i = 0; i < count; i++) {
+            book(newItem(owner), userService.addUser(userDto()));
+        }
+        return owner;
+    }
+
+    private Item newItem(User owner) {
+        return itemRepository.save(Item.builder()
+                .name("item")
+                .description("description")
+                .isAvailable(true)
+                .ownerId(owner.getId())
+                .build());
+    }
+
+    private void book(Item item, User booker) {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        bookingRepository.save(Booking.builder()
+                .start(start)
+                .end(start.plusDays(1))
+                .item(item)
+                .booker(booker)
+                .status(BookingStatus.WAITING)
+                .build());
+    }
+
+    private static UserDto userDto() {
+        UserDto dto = new UserDto();
+        dto.setName("user");
+        dto.setEmail(Random.getUser().getEmail());
+        return dto;
+    }
+}
@@ -5,28 +5,42 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingPage;
 import ru.practicum.shareit.booking.enums.BookingState;
 import ru.practicum.shareit.booking.enums.BookingStatus;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.overlap.BookingOverlapGuard;
 import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
 import ru.practicum.shareit.validation.exceptions.BadRequestException;
+import ru.practicum.shareit.validation.exceptions.ConflictException;
 import ru.practicum.shareit.validation.exceptions.ForbiddenException;
+import ru.practicum.shareit.validation.exceptions.NotFoundException;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static ru.practicum.shareit.Constants.MAX_BATCH_SIZE;
 
 @ExtendWith(MockitoExtension.class)
 public class BookingServiceImplTest {
@@ -37,9 +51,21 @@ public class BookingServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserService userService;
+
     @Mock
     private ItemRepository itemRepository;
 
+    @Mock
+    private ItemBookingSummaryService summaryService;
+
+    @Mock
+    private BookingOverlapGuard overlapGuard;
+
+    @Mock
+    private ItemAvailabilityService availabilityService;
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -67,6 +93,25 @@ public class BookingServiceImplTest {
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getStatus()).isEqualTo(BookingStatus.WAITING);
         verify(bookingRepository).save(any());
+        verify(overlapGuard).reserve(savedBooking);
+        verify(summaryService).refresh(1L);
+        verify(availabilityService).invalidate(1L);
+    }
+
+    @Test
+    public void shouldThrowConflictExceptionWhenCreateBookingOverlapsAnother() {
+        BookingDto bookingDto = bookingDto(1L, now.plusDays(1), now.plusDays(2));
+
+        User user = new User(1L, "booker", "booker@test.com");
+        Item item = new Item(1L, "item", "desc", true, 2L, null);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
+        when(overlapGuard.hasOverlap(1L, bookingDto.getStart(), bookingDto.getEnd())).thenReturn(true);
+
+        assertThatThrownBy(() -> bookingService.createBooking(1L, bookingDto))
+                .isInstanceOf(ConflictException.class);
+        verify(bookingRepository, never()).save(any());
     }
 
     @Test
@@ -97,6 +142,80 @@ public class BookingServiceImplTest {
                 .isInstanceOf(BadRequestException.class);
     }
 
+    @Test
+    public void shouldCreateBookingsReportingEachEntry() {
+        User user = new User(1L, "booker", "booker@test.com");
+        Item available = new Item(1L, "item", "desc", true, 2L, null);
+        Item unavailable = new Item(2L, "item", "desc", false, 2L, null);
+
+        BookingDto valid = bookingDto(1L, now.plusDays(1), now.plusDays(2));
+        BookingDto invalidDates = bookingDto(1L, now.plusDays(2), now.plusDays(1));
+        BookingDto notAvailable = bookingDto(2L, now.plusDays(1), now.plusDays(2));
+        BookingDto unknownItem = bookingDto(3L, now.plusDays(1), now.plusDays(2));
+        BookingDto later = bookingDto(1L, now.plusDays(2), now.plusDays(3));
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(itemRepository.findAllById(Set.of(1L, 2L, 3L))).thenReturn(List.of(available, unavailable));
+
+        List<BookingBatchResult> results = bookingService.createBookings(1L,
+                List.of(valid, invalidDates, notAvailable, unknownItem, later));
+
+        assertThat(results).hasSize(5);
+        assertThat(results).extracting(result -> result.booking() != null)
+                .containsExactly(true, false, false, false, true);
+        assertThat(results.get(0).booking().getStatus()).isEqualTo(BookingStatus.WAITING);
+        assertThat(results.get(3).error()).contains("3");
+        verify(bookingRepository).saveAll(List.of(results.get(0).booking(), results.get(4).booking()));
+        verify(summaryService).refresh(1L);
+    }
+
+    @Test
+    public void shouldRejectBatchEntriesOverlappingEachOtherOrStoredBookings() {
+        User user = new User(1L, "booker", "booker@test.com");
+        Item item = new Item(1L, "item", "desc", true, 2L, null);
+
+        BookingDto first = bookingDto(1L, now.plusDays(1), now.plusDays(3));
+        BookingDto overlapsFirst = bookingDto(1L, now.plusDays(2), now.plusDays(4));
+        BookingDto overlapsStored = bookingDto(1L, now.plusDays(5), now.plusDays(6));
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(itemRepository.findAllById(Set.of(1L))).thenReturn(List.of(item));
+        when(overlapGuard.hasOverlap(eq(1L), any(), any()))
+                .thenAnswer(invocation -> overlapsStored.getStart().equals(invocation.getArgument(1)));
+
+        List<BookingBatchResult> results = bookingService.createBookings(1L,
+                List.of(first, overlapsFirst, overlapsStored));
+
+        assertThat(results).extracting(BookingBatchResult::error)
+                .containsExactly(null, "Предмет уже забронирован на эти даты", "Предмет уже забронирован на эти даты");
+        verify(overlapGuard).reserve(results.getFirst().booking());
+    }
+
+    @Test
+    public void shouldThrowNotFoundExceptionWhenCreateBookingsForUnknownUser() {
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> bookingService.createBookings(1L,
+                List.of(bookingDto(1L, now.plusDays(1), now.plusDays(2)))))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    public void shouldThrowBadRequestExceptionWhenBatchIsTooLarge() {
+        List<BookingDto> dtos = Collections.nCopies(MAX_BATCH_SIZE + 1, bookingDto(1L, now, now.plusDays(1)));
+
+        assertThatThrownBy(() -> bookingService.createBookings(1L, dtos))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private BookingDto bookingDto(Long itemId, LocalDateTime start, LocalDateTime end) {
+        BookingDto bookingDto = new BookingDto();
+        bookingDto.setItemId(itemId);
+        bookingDto.setStart(start);
+        bookingDto.setEnd(end);
+        return bookingDto;
+    }
+
     @Test
     public void shouldUpdateBookingStatus() {
         User owner = new User(2L, "owner", "owner@test.com");
@@ -114,6 +233,42 @@ public class BookingServiceImplTest {
 
         assertThat(result.getStatus()).isEqualTo(BookingStatus.APPROVED);
         verify(bookingRepository).save(any());
+        verify(summaryService).refresh(1L);
+    }
+
+    @Test
+    public void shouldReleasePeriodWhenBookingRejected() {
+        Booking booking = bookingWithStatus(BookingStatus.WAITING);
+
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+        when(bookingRepository.save(any())).thenReturn(booking);
+
+        bookingService.updateBookingStatus(2L, 1L, false);
+
+        verify(overlapGuard).release(booking);
+        verify(overlapGuard, never()).reserve(any());
+    }
+
+    @Test
+    public void shouldReservePeriodWhenRejectedBookingApproved() {
+        Booking booking = bookingWithStatus(BookingStatus.REJECTED);
+
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
+        when(bookingRepository.save(any())).thenReturn(booking);
+
+        bookingService.updateBookingStatus(2L, 1L, true);
+
+        verify(overlapGuard).reserve(booking);
+        verify(overlapGuard, never()).release(any());
+    }
+
+    private Booking bookingWithStatus(BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setId(1L);
+        booking.setItem(new Item(1L, "item", "desc", true, 2L, null));
+        booking.setBooker(new User(1L, "booker", "booker@test.com"));
+        booking.setStatus(status);
+        return booking;
     }
 
     @Test
@@ -162,29 +317,28 @@ public class BookingServiceImplTest {
 
     @Test
     public void shouldFindByBookerAndStateAll() {
-        when(userRepository.existsById(1L)).thenReturn(true);
         when(bookingRepository.findByBookerIdOrderByEndDesc(1L)).thenReturn(List.of(new Booking()));
 
         Collection<Booking> result = bookingService.findByBookerAndState(1L, BookingState.ALL);
 
         assertThat(result).hasSize(1);
         verify(bookingRepository).findByBookerIdOrderByEndDesc(1L);
+        verify(userService).throwIfUserNotFound(1L);
     }
 
     @Test
     public void shouldFindByOwnerAndStateAll() {
-        when(userRepository.existsById(1L)).thenReturn(true);
         when(bookingRepository.findByItemOwnerIdOrderByEndDesc(1L)).thenReturn(List.of(new Booking()));
 
         Collection<Booking> result = bookingService.findByOwnerAndState(1L, BookingState.ALL);
 
         assertThat(result).hasSize(1);
         verify(bookingRepository).findByItemOwnerIdOrderByEndDesc(1L);
+        verify(userService).throwIfUserNotFound(1L);
     }
 
     @Test
     public void shouldFindByBookerAndStateRejected() {
-        when(userRepository.existsById(1L)).thenReturn(true);
         when(bookingRepository.findByBookerIdAndStatusIsOrderByEndDesc(1L, BookingStatus.REJECTED)).thenReturn(List.of(new Booking()));
 
         Collection<Booking> result = bookingService.findByBookerAndState(1L, BookingState.REJECTED);
@@ -195,7 +349,6 @@ public class BookingServiceImplTest {
 
     @Test
     public void shouldFindByOwnerAndStateRejected() {
-        when(userRepository.existsById(1L)).thenReturn(true);
         when(bookingRepository.findByItemOwnerIdAndStatusIsOrderByEndDesc(1L, BookingStatus.REJECTED)).thenReturn(List.of(new Booking()));
 
         Collection<Booking> result = bookingService.findByOwnerAndState(1L, BookingState.REJECTED);
@@ -206,7 +359,6 @@ public class BookingServiceImplTest {
 
     @Test
     public void shouldFindByBookerAndStateWaiting() {
-        when(userRepository.existsById(1L)).thenReturn(true);
         when(bookingRepository.findByBookerIdAndStatusIsOrderByEndDesc(1L, BookingStatus.WAITING))
                 .thenReturn(List.of(new Booking()));
 
@@ -218,7 +370,6 @@ public class BookingServiceImplTest {
 
     @Test
     public void shouldFindByOwnerAndStateWaiting() {
-        when(userRepository.existsById(1L)).thenReturn(true);
         when(bookingRepository.findByItemOwnerIdAndStatusIsOrderByEndDesc(1L, BookingStatus.WAITING))
                 .thenReturn(List.of(new Booking()));
 
@@ -230,32 +381,29 @@ public class BookingServiceImplTest {
 
     @Test
     public void shouldFindByBookerAndStateCurrent() {
-        when(userRepository.existsById(1L)).thenReturn(true);
-        when(bookingRepository.findByBookerIdAndStartIsBeforeAndEndIsBeforeOrderByEndDesc(any(), any(LocalDateTime.class), any(LocalDateTime.class)))
+        when(bookingRepository.findByBookerIdAndStartLessThanEqualAndEndAfterOrderByEndDesc(any(), any(LocalDateTime.class), any(LocalDateTime.class)))
                 .thenReturn(List.of(new Booking()));
 
         Collection<Booking> result = bookingService.findByBookerAndState(1L, BookingState.CURRENT);
 
         assertThat(result).hasSize(1);
-        verify(bookingRepository).findByBookerIdAndStartIsBeforeAndEndIsBeforeOrderByEndDesc(any(), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(bookingRepository).findByBookerIdAndStartLessThanEqualAndEndAfterOrderByEndDesc(any(), any(LocalDateTime.class), any(LocalDateTime.class));
     }
 
     @Test
     public void shouldFindByOwnerAndStateCurrent() {
-        when(userRepository.existsById(1L)).thenReturn(true);
 
-        when(bookingRepository.findByItemOwnerIdAndStartIsBeforeAndEndIsBeforeOrderByEndDesc(any(), any(LocalDateTime.class), any(LocalDateTime.class)))
+        when(bookingRepository.findByItemOwnerIdAndStartLessThanEqualAndEndAfterOrderByEndDesc(any(), any(LocalDateTime.class), any(LocalDateTime.class)))
                 .thenReturn(List.of(new Booking()));
 
         Collection<Booking> result = bookingService.findByOwnerAndState(1L, BookingState.CURRENT);
 
         assertThat(result).hasSize(1);
-        verify(bookingRepository).findByItemOwnerIdAndStartIsBeforeAndEndIsBeforeOrderByEndDesc(any(), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(bookingRepository).findByItemOwnerIdAndStartLessThanEqualAndEndAfterOrderByEndDesc(any(), any(LocalDateTime.class), any(LocalDateTime.class));
     }
 
     @Test
     public void shouldFindByBookerAndStatePast() {
-        when(userRepository.existsById(1L)).thenReturn(true);
         when(bookingRepository.findByBookerIdAndEndIsBeforeOrderByEndDesc(any(), any(LocalDateTime.class)))
                 .thenReturn(List.of(new Booking()));
 
@@ -267,7 +415,6 @@ public class BookingServiceImplTest {
 
     @Test
     public void shouldFindByOwnerAndStatePast() {
-        when(userRepository.existsById(1L)).thenReturn(true);
         when(bookingRepository.findByItemOwnerIdAndEndIsBeforeOrderByEndDesc(any(), any(LocalDateTime.class)))
                 .thenReturn(List.of(new Booking()));
 
@@ -279,7 +426,6 @@ public class BookingServiceImplTest {
 
     @Test
     public void shouldFindByBookerAndStateFuture() {
-        when(userRepository.existsById(1L)).thenReturn(true);
         when(bookingRepository.findByBookerIdAndStartIsAfterOrderByEndDesc(any(), any(LocalDateTime.class)))
                 .thenReturn(List.of(new Booking()));
 
@@ -291,7 +437,6 @@ public class BookingServiceImplTest {
 
     @Test
     public void shouldFindByOwnerAndStateFuture() {
-        when(userRepository.existsById(1L)).thenReturn(true);
         when(bookingRepository.findByItemOwnerIdAndStartIsAfterOrderByEndDesc(any(), any(LocalDateTime.class)))
                 .thenReturn(List.of(new Booking()));
 
@@ -300,4 +445,53 @@ public class BookingServiceImplTest {
         assertThat(result).hasSize(1);
         verify(bookingRepository).findByItemOwnerIdAndStartIsAfterOrderByEndDesc(any(), any(LocalDateTime.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReturnNextCursorWhenPageIsFull() {
+        Booking booking = Booking.builder().id(5L).end(now.plusDays(1)).build();
+
+        when(bookingRepository.findByBookerIdOrderByEndDescIdDesc(eq(1L), any(ScrollPosition.class), eq(Limit.of(1))))
+                .thenReturn(Window.from(List.of(booking), ScrollPosition::offset, true));
+
+        BookingPage page = bookingService.findByBookerAndState(1L, BookingState.ALL, null, 1);
+
+        assertThat(page.bookings()).containsExactly(booking);
+        assertThat(page.nextCursor()).isNotNull();
+    }
+
+    @Test
+    public void shouldNotReturnNextCursorOnLastPage() {
+        when(bookingRepository.findByItemOwnerIdAndStatusIsOrderByEndDescIdDesc(
+                eq(1L), eq(BookingStatus.WAITING), any(ScrollPosition.class), any(Limit.class)))
+                .thenReturn(Window.from(List.of(new Booking()), ScrollPosition::offset, false));
+
+        BookingPage page = bookingService.findByOwnerAndState(1L, BookingState.WAITING, null, 10);
+
+        assertThat(page.bookings()).hasSize(1);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    public void shouldLimitPageSize() {
+        when(bookingRepository.findByItemOwnerIdOrderByEndDescIdDesc(eq(1L), any(ScrollPosition.class), any(Limit.class)))
+                .thenReturn(Window.from(List.of(), ScrollPosition::offset));
+
+        bookingService.findByOwnerAndState(1L, BookingState.ALL, null, 10_000);
+
+        verify(bookingRepository).findByItemOwnerIdOrderByEndDescIdDesc(eq(1L), any(ScrollPosition.class), eq(Limit.of(100)));
+    }
+
+    @Test
+    public void shouldThrowBadRequestExceptionWhenCursorIsMalformed() {
+
+        assertThatThrownBy(() -> bookingService.findByBookerAndState(1L, BookingState.ALL, "not a cursor", 10))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    public void shouldThrowBadRequestExceptionWhenPageSizeIsNotPositive() {
+
+        assertThatThrownBy(() -> bookingService.findByBookerAndState(1L, BookingState.ALL, null, 0))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,141 @@
+package ru.practicum.shareit.booking.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingPeriod;
+import ru.practicum.shareit.booking.dto.ItemAvailability;
+import ru.practicum.shareit.booking.dto.ItemAvailability.Interval;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.validation.exceptions.BadRequestException;
+import ru.practicum.shareit.validation.exceptions.NotFoundException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemAvailabilityServiceImplTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    private ItemAvailabilityServiceImpl availabilityService;
+
+    private final LocalDateTime base = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @BeforeEach
+    public void setUp() {
+        availabilityService = new ItemAvailabilityServiceImpl(bookingRepository, itemRepository,
+                new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    public void shouldMergeOverlappingAndAdjacentBookings() {
+        List<Interval> merged = ItemAvailabilityServiceImpl.merge(List.of(
+                period(0, 10), period(5, 12), period(12, 14), period(20, 30), period(21, 22)));
+
+        assertThat(merged).containsExactly(new Interval(at(0), at(14)), new Interval(at(20), at(30)));
+    }
+
+    @Test
+    public void shouldClipBusyIntervalsAndFillFreeGaps() {
+        stubBookings(period(0, 10), period(20, 30), period(40, 50));
+
+        ItemAvailability availability = availabilityService.getAvailability(1L, at(5), at(45));
+
+        assertThat(availability.busy()).containsExactly(
+                new Interval(at(5), at(10)), new Interval(at(20), at(30)), new Interval(at(40), at(45)));
+        assertThat(availability.free()).containsExactly(
+                new Interval(at(10), at(20)), new Interval(at(30), at(40)));
+    }
+
+    @Test
+    public void shouldReturnWholePeriodAsFreeWithoutBookings() {
+        stubBookings(period(0, 10));
+
+        ItemAvailability availability = availabilityService.getAvailability(1L, at(10), at(20));
+
+        assertThat(availability.busy()).isEmpty();
+        assertThat(availability.free()).containsExactly(new Interval(at(10), at(20)));
+    }
+
+    @Test
+    public void shouldServeRepeatedRequestsFromCacheUntilInvalidated() {
+        stubBookings(period(0, 10));
+
+        availabilityService.getAvailability(1L, at(0), at(20));
+        availabilityService.getAvailability(1L, at(5), at(15));
+        verify(bookingRepository, times(1)).findPeriodsByItemIdAndStatusInOrderByStart(1L, BookingStatus.ACTIVE);
+
+        availabilityService.invalidate(1L);
+        availabilityService.getAvailability(1L, at(0), at(20));
+        verify(bookingRepository, times(2)).findPeriodsByItemIdAndStatusInOrderByStart(1L, BookingStatus.ACTIVE);
+    }
+
+    @Test
+    public void shouldThrowNotFoundExceptionForUnknownItem() {
+        when(itemRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> availabilityService.getAvailability(1L, at(0), at(10)))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    public void shouldThrowBadRequestExceptionForInvalidPeriod() {
+        assertThatThrownBy(() -> availabilityService.getAvailability(1L, at(10), at(10)))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> availabilityService.getAvailability(1L, base, base.plusDays(400)))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private void stubBookings(BookingPeriod... periods) {
+        when(itemRepository.findById(1L)).thenReturn(Optional.of(Item.builder().id(1L).build()));
+        when(bookingRepository.findPeriodsByItemIdAndStatusInOrderByStart(1L, BookingStatus.ACTIVE))
+                .thenReturn(List.of(periods));
+    }
+
+    private BookingPeriod period(int startHour, int endHour) {
+        return new BookingPeriod() {
+            @Override
+            public Long getId() {
+                return (long) startHour;
+            }
+
+            @Override
+            public Long getItemId() {
+                return 1L;
+            }
+
+            @Override
+            public LocalDateTime getStart() {
+                return at(startHour);
+            }
+
+            @Override
+            public LocalDateTime getEnd() {
+                return at(endHour);
+            }
+        };
+    }
+
+    private LocalDateTime at(int hour) {
+        return base.plusHours(hour);
+    }
+}
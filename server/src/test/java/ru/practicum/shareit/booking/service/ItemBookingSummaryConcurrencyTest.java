@@ -0,0 +1,85 @@
+package ru.practicum.shareit.booking.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.Random;
+import ru.practicum.shareit.booking.dao.ItemBookingSummaryRepository;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Параллельные первые бронирования одного предмета не падают на вставке проекции
+ * и оставляют в ней самое раннее будущее бронирование.
+ */
+@SpringBootTest
+public class ItemBookingSummaryConcurrencyTest {
+
+    private static final int BOOKINGS = 8;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemBookingSummaryRepository summaryRepository;
+
+    @Test
+    public void shouldKeepEarliestNextBookingUnderConcurrentCreates() throws Exception {
+        User owner = userRepository.save(Random.getUser());
+        Item item = itemRepository.save(Item.builder()
+                .name("item")
+                .description("description")
+                .isAvailable(true)
+                .ownerId(owner.getId())
+                .build());
+        LocalDateTime base = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(BOOKINGS);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < BOOKINGS; i++) {
+                Long bookerId = userRepository.save(Random.getUser()).getId();
+                BookingDto dto = new BookingDto();
+                dto.setItemId(item.getId());
+                dto.setStart(base.plusDays(i * 2L));
+                dto.setEnd(base.plusDays(i * 2L + 1));
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return bookingService.createBooking(bookerId, dto);
+                }));
+            }
+            start.countDown();
+
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        ItemBookingSummary summary = summaryRepository.findById(item.getId()).orElseThrow();
+        assertThat(summary.getNextBooking()).isEqualTo(base);
+    }
+}
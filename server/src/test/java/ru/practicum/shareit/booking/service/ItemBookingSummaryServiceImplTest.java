@@ -0,0 +1,129 @@
+package ru.practicum.shareit.booking.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.dao.ItemBookingSummaryRepository;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
+import ru.practicum.shareit.item.dao.ItemRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemBookingSummaryServiceImplTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private ItemBookingSummaryRepository summaryRepository;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ItemBookingSummaryServiceImpl summaryService;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    public void setUp() {
+        summaryService = new ItemBookingSummaryServiceImpl(bookingRepository, summaryRepository, itemRepository,
+                new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    public void shouldRefreshSummaryFromBookings() {
+        ItemBookingSummary dates = new ItemBookingSummary(1L, now.minusDays(1), now.plusDays(1));
+        when(bookingRepository.findLastAndNextDatesByItemId(eq(1L), eq(BookingStatus.REJECTED), any()))
+                .thenReturn(Optional.of(dates));
+
+        summaryService.refresh(1L);
+
+        ArgumentCaptor<ItemBookingSummary> captor = ArgumentCaptor.forClass(ItemBookingSummary.class);
+        verify(summaryRepository).save(captor.capture());
+        assertThat(captor.getValue()).isEqualTo(dates);
+    }
+
+    @Test
+    public void shouldLockItemBeforeReadingBookings() {
+        when(bookingRepository.findLastAndNextDatesByItemId(eq(1L), eq(BookingStatus.REJECTED), any()))
+                .thenReturn(Optional.empty());
+
+        summaryService.refresh(1L);
+
+        InOrder order = inOrder(itemRepository, bookingRepository, summaryRepository);
+        order.verify(itemRepository).lockById(1L);
+        order.verify(bookingRepository).findLastAndNextDatesByItemId(eq(1L), eq(BookingStatus.REJECTED), any());
+        order.verify(summaryRepository).save(any());
+    }
+
+    @Test
+    public void shouldClearSummaryWhenNoBookingsLeft() {
+        when(bookingRepository.findLastAndNextDatesByItemId(eq(1L), eq(BookingStatus.REJECTED), any()))
+                .thenReturn(Optional.empty());
+
+        summaryService.refresh(1L);
+
+        verify(summaryRepository).save(new ItemBookingSummary(1L, null, null));
+    }
+
+    @Test
+    public void shouldRollOverStartedBookings() {
+        when(summaryRepository.findItemIdsWithNextBookingBefore(any())).thenReturn(List.of(1L, 2L));
+        when(bookingRepository.findLastAndNextDatesByItemId(any(), eq(BookingStatus.REJECTED), any()))
+                .thenReturn(Optional.empty());
+
+        summaryService.rollOver();
+
+        verify(summaryRepository, times(2)).save(any());
+    }
+
+    @Test
+    public void shouldRefreshEachItemInItsOwnTransaction() {
+        when(summaryRepository.findItemIdsWithNextBookingBefore(any())).thenReturn(List.of(1L, 2L));
+        when(bookingRepository.findLastAndNextDatesByItemId(any(), eq(BookingStatus.REJECTED), any()))
+                .thenReturn(Optional.empty());
+
+        summaryService.rollOver();
+
+        InOrder order = inOrder(transactionManager, itemRepository);
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(itemRepository).lockById(1L);
+        order.verify(transactionManager).commit(any());
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(itemRepository).lockById(2L);
+        order.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    public void shouldBackfillItemsWithoutSummary() {
+        when(summaryRepository.findItemIdsWithoutSummary()).thenReturn(List.of(3L));
+        when(bookingRepository.findLastAndNextDatesByItemId(eq(3L), eq(BookingStatus.REJECTED), any()))
+                .thenReturn(Optional.empty());
+
+        summaryService.backfill();
+
+        verify(summaryRepository).save(new ItemBookingSummary(3L, null, null));
+    }
+}
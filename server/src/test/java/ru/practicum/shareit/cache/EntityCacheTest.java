@@ -0,0 +1,97 @@
+package ru.practicum.shareit.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.Random;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class EntityCacheTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void shouldReadUserFromCacheWithoutQueries() {
+        User user = userService.addUser(userDto("cached"));
+        userService.getUser(user.getId());
+        statistics.clear();
+
+        userService.getUser(user.getId());
+        userService.getUser(user.getId());
+
+        assertThat(statistics.getDomainDataRegionStatistics(User.CACHE_REGION).getHitCount()).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(meterRegistry.get("hibernate.second.level.cache.requests")
+                .tag("region", User.CACHE_REGION)
+                .tag("result", "hit")
+                .functionCounter().count()).isPositive();
+    }
+
+    @Test
+    public void shouldReturnUpdatedUserAfterUpdate() {
+        User user = userService.addUser(userDto("before"));
+        userService.getUser(user.getId());
+
+        UserDto update = new UserDto();
+        update.setName("after");
+        userService.updateUser(user.getId(), update);
+
+        assertThat(userService.getUser(user.getId()).getName()).isEqualTo("after");
+    }
+
+    @Test
+    public void shouldNotReturnItemsOfDeletedUser() {
+        User owner = userService.addUser(userDto("owner"));
+        ItemDto item = itemService.addItem(owner.getId(), Random.getItemDto());
+        itemRepository.findById(item.getId());
+        assertThat(entityManagerFactory.getCache().contains(Item.class, item.getId())).isTrue();
+
+        userService.deleteUser(owner.getId());
+
+        assertThat(itemRepository.findById(item.getId())).isEmpty();
+    }
+
+    private static UserDto userDto(String name) {
+        UserDto dto = new UserDto();
+        dto.setName(name);
+        dto.setEmail(Random.getUser().getEmail());
+        return dto;
+    }
+}
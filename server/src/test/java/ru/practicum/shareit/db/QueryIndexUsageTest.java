@@ -0,0 +1,165 @@
+package ru.practicum.shareit.db;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.dao.ItemBookingSummaryRepository;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.item.dao.CommentRepository;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.request.dao.ItemRequestRepository;
+
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Проверяет через EXPLAIN, что SQL, который Hibernate генерирует для запросов репозиториев,
+ * не сканирует таблицы целиком. Запросы перехватываются {@link SqlRecorder} и выполняются
+ * повторно с префиксом EXPLAIN.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "ru.practicum.shareit.db.QueryIndexUsageTest$SqlRecorder")
+@AutoConfigureTestDatabase
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class QueryIndexUsageTest {
+
+    private final BookingRepository bookingRepository;
+    private final ItemBookingSummaryRepository summaryRepository;
+    private final ItemRepository itemRepository;
+    private final CommentRepository commentRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Test
+    public void bookerBookingQueriesShouldUseIndex() {
+        assertUsesIndex(() -> bookingRepository.findByBookerIdOrderByEndDesc(1L));
+        assertUsesIndex(() -> bookingRepository.findByBookerIdAndStatusIsOrderByEndDesc(1L, BookingStatus.WAITING));
+        assertUsesIndex(() -> bookingRepository
+                .findByBookerIdAndStartLessThanEqualAndEndAfterOrderByEndDesc(1L, now, now));
+        assertUsesIndex(() -> bookingRepository.findByBookerIdAndStartIsAfterOrderByEndDesc(1L, now));
+        assertUsesIndex(() -> bookingRepository.findByBookerIdAndEndIsBeforeOrderByEndDesc(1L, now));
+    }
+
+    @Test
+    public void ownerBookingQueriesShouldUseIndex() {
+        assertUsesIndex(() -> bookingRepository.findByItemOwnerIdOrderByEndDesc(1L));
+        assertUsesIndex(() -> bookingRepository.findByItemOwnerIdAndStatusIsOrderByEndDesc(1L, BookingStatus.WAITING));
+        assertUsesIndex(() -> bookingRepository
+                .findByItemOwnerIdAndStartLessThanEqualAndEndAfterOrderByEndDesc(1L, now, now));
+        assertUsesIndex(() -> bookingRepository.findByItemOwnerIdAndStartIsAfterOrderByEndDesc(1L, now));
+        assertUsesIndex(() -> bookingRepository.findByItemOwnerIdAndEndIsBeforeOrderByEndDesc(1L, now));
+    }
+
+    @Test
+    public void bookingScrollQueriesShouldUseIndex() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("end", now);
+        keys.put("id", 10L);
+        ScrollPosition next = ScrollPosition.forward(keys);
+
+        for (ScrollPosition position : List.of(ScrollPosition.keyset(), next)) {
+            assertUsesIndex(() -> bookingRepository.findByBookerIdOrderByEndDescIdDesc(1L, position, Limit.of(10)));
+            assertUsesIndex(() -> bookingRepository.findByItemOwnerIdAndStatusIsOrderByEndDescIdDesc(1L,
+                    BookingStatus.WAITING, position, Limit.of(10)));
+        }
+    }
+
+    @Test
+    public void itemBookingLookupsShouldUseIndex() {
+        assertUsesIndex(() -> bookingRepository.existsByItemIdAndBookerIdAndStatusIsAndEndBefore(1L, 1L,
+                BookingStatus.APPROVED, now));
+        assertUsesIndex(() -> bookingRepository.findLastAndNextDatesByItemId(1L, BookingStatus.REJECTED, now));
+        assertUsesIndex(() -> summaryRepository.findByOwnerId(1L));
+        assertUsesIndex(() -> summaryRepository.findItemIdsWithNextBookingBefore(now));
+    }
+
+    @Test
+    public void itemQueriesShouldUseIndex() {
+        assertUsesIndex(() -> itemRepository.findByOwnerId(1L));
+        assertUsesIndex(() -> itemRepository.findByRequestId(1L));
+        assertUsesIndex(() -> itemRepository.findAllByRequestIdIn(List.of(1L, 2L)));
+    }
+
+    @Test
+    public void commentQueriesShouldUseIndex() {
+        assertUsesIndex(() -> commentRepository.findByItemId(1L));
+        assertUsesIndex(() -> commentRepository.findPageByItemId(1L, PageRequest.of(1, 10)));
+        assertUsesIndex(() -> commentRepository.findLatestByItemOwnerIdWindow(1L, 10));
+        assertUsesIndex(() -> commentRepository.findLatestByItemIdInWindow(List.of(1L, 2L), 10));
+    }
+
+    @Test
+    public void itemRequestQueriesShouldUseIndex() {
+        assertUsesIndex(() -> itemRequestRepository.findByRequestorIdOrderByCreatedDesc(1L));
+        assertUsesIndex(() -> itemRequestRepository.findByRequestorIdOrderByCreatedDesc(1L, PageRequest.of(1, 10)));
+        assertUsesIndex(() -> itemRequestRepository.findAllByOrderByCreatedDesc(PageRequest.of(1, 10)));
+    }
+
+    private void assertUsesIndex(Runnable query) {
+        SqlRecorder.clear();
+        query.run();
+
+        List<String> statements = SqlRecorder.statements();
+        assertThat(statements).isNotEmpty();
+
+        for (String sql : statements) {
+            assertThat(explain(sql))
+                    .as("План запроса %s", sql)
+                    .doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute("EXPLAIN " + sql, (PreparedStatementCallback<String>) statement -> {
+            int parameterCount = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                statement.setObject(i, null);
+            }
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        });
+    }
+
+    public static class SqlRecorder implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        static synchronized void clear() {
+            STATEMENTS.clear();
+        }
+
+        static synchronized List<String> statements() {
+            return List.copyOf(STATEMENTS);
+        }
+
+        static synchronized void record(String sql) {
+            STATEMENTS.add(sql);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            record(sql);
+            return sql;
+        }
+    }
+}
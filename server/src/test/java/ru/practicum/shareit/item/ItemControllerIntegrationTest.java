@@ -173,5 +173,21 @@ public class ItemControllerIntegrationTest {
                 .andExpect(jsonPath("$.text").value(cc.text()));
 
         assertThat(commentRepository.findByItemId(item.getId())).hasSize(1);
+
+        mockMvc.perform(post("/items/{itemId}/comment", item.getId())
+                        .header(Constants.USER_ID_HEADER, booker.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/items/{itemId}", item.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments.length()").value(2))
+                .andExpect(jsonPath("$.commentsCount").value(2));
+
+        mockMvc.perform(get("/items/{itemId}/comments", item.getId())
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
     }
 }
\ No newline at end of file
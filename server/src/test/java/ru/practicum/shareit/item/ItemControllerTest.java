@@ -8,12 +8,16 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.Constants;
+import ru.practicum.shareit.booking.dto.ItemAvailability;
+import ru.practicum.shareit.booking.service.ItemAvailabilityService;
 import ru.practicum.shareit.item.dto.CommentCreate;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.service.ItemService;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -34,6 +38,9 @@ public class ItemControllerTest {
     @MockBean
     private ItemService itemService;
 
+    @MockBean
+    private ItemAvailabilityService availabilityService;
+
     @Test
     public void shouldGetItem() throws Exception {
         ItemDto dto = new ItemDto();
@@ -47,11 +54,65 @@ public class ItemControllerTest {
                 .andExpect(jsonPath("$.name").value("item"));
     }
 
+    @Test
+    public void shouldGetAvailability() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = from.plusDays(2);
+        ItemAvailability availability = new ItemAvailability(1L, from, to,
+                List.of(new ItemAvailability.Interval(from, from.plusDays(1))),
+                List.of(new ItemAvailability.Interval(from.plusDays(1), to)));
+        when(availabilityService.getAvailability(1L, from, to)).thenReturn(availability);
+
+        mockMvc.perform(get("/items/1/availability")
+                        .param("from", "2030-01-01T00:00:00")
+                        .param("to", "2030-01-03T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itemId").value(1))
+                .andExpect(jsonPath("$.busy[0].end").value("2030-01-02T00:00:00"))
+                .andExpect(jsonPath("$.free[0].start").value("2030-01-02T00:00:00"));
+    }
+
+    @Test
+    public void shouldGetCommentsPage() throws Exception {
+        CommentDto comment = new CommentDto();
+        comment.setId(5L);
+        comment.setText("text");
+        when(itemService.getComments(1L, 10, 5)).thenReturn(List.of(comment));
+
+        mockMvc.perform(get("/items/1/comments")
+                        .param("from", "10")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(5))
+                .andExpect(jsonPath("$[0].text").value("text"));
+    }
+
+    @Test
+    public void shouldGetFirstCommentsPageByDefault() throws Exception {
+        when(itemService.getComments(1L, 0, 20)).thenReturn(List.of());
+
+        mockMvc.perform(get("/items/1/comments"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    public void shouldGetItemsByIds() throws Exception {
+        ItemDto dto = new ItemDto();
+        dto.setId(2L);
+        when(itemService.getItemsByIds(List.of(2L, 1L))).thenReturn(Collections.singletonList(dto));
+
+        mockMvc.perform(get("/items")
+                        .param("ids", "2,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(2));
+    }
+
     @Test
     public void shouldSearchItems() throws Exception {
         ItemDto dto = new ItemDto();
         dto.setId(1L);
-        when(itemService.searchItems("text")).thenReturn(Collections.singletonList(dto));
+        when(itemService.searchItems("text", 20)).thenReturn(Collections.singletonList(dto));
 
         mockMvc.perform(get("/items/search")
                         .param("text", "text"))
@@ -5,7 +5,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.Random;
+import ru.practicum.shareit.item.comment.LateralLatestCommentsReader;
+import ru.practicum.shareit.item.comment.LatestCommentsReader;
+import ru.practicum.shareit.item.comment.WindowLatestCommentsReader;
 import ru.practicum.shareit.item.mappers.ItemMapper;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
@@ -14,6 +18,7 @@ import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 
@@ -59,34 +64,99 @@ public class CommentRepositoryTest {
     }
 
     @Test
-    public void shouldFindByItemOwnerId() {
-        User user = Random.getUser();
-        user = userRepository.save(user);
+    public void shouldFindLatestByItemIdIn() {
+        User owner = userRepository.save(Random.getUser());
+        User author = userRepository.save(Random.getUser());
+        Item first = saveItem(owner);
+        Item second = saveItem(owner);
+        Item other = saveItem(owner);
+        LocalDateTime now = LocalDateTime.now();
+
+        saveComment(first, author, now.minusHours(3));
+        Comment firstNewer = saveComment(first, author, now.minusHours(2));
+        Comment firstNewest = saveComment(first, author, now.minusHours(1));
+        Comment secondComment = saveComment(second, author, now);
+        saveComment(other, author, now);
+
+        for (LatestCommentsReader reader : readers()) {
+            List<Comment> comments = reader.findByItemIdIn(List.of(first.getId(), second.getId()), 2);
+
+            assertThat(comments)
+                    .extracting(Comment::getId)
+                    .containsExactly(secondComment.getId(), firstNewest.getId(), firstNewer.getId());
+            assertThat(comments)
+                    .extracting(comment -> comment.getAuthor().getName())
+                    .containsOnly(author.getName());
+        }
+    }
 
-        Item item = ItemMapper.toItem(Random.getItemDto());
-        item.setOwnerId(user.getId());
+    @Test
+    public void shouldFindLatestByItemOwnerId() {
+        User owner = userRepository.save(Random.getUser());
+        User otherOwner = userRepository.save(Random.getUser());
+        User author = userRepository.save(Random.getUser());
+        Item first = saveItem(owner);
+        Item second = saveItem(owner);
+        LocalDateTime now = LocalDateTime.now();
+
+        saveComment(first, author, now.minusHours(2));
+        Comment firstNewest = saveComment(first, author, now.minusHours(1));
+        Comment secondComment = saveComment(second, author, now.minusHours(3));
+        saveComment(saveItem(otherOwner), author, now);
+
+        for (LatestCommentsReader reader : readers()) {
+            List<Comment> comments = reader.findByItemOwnerId(owner.getId(), 1);
+
+            assertThat(comments)
+                    .extracting(Comment::getId)
+                    .containsExactly(firstNewest.getId(), secondComment.getId());
+
+            Comment c = comments.get(0);
+            assertThat(c.getAuthor()).isEqualTo(author);
+            assertThat(c.getItem()).isEqualTo(first);
+        }
+    }
 
-        item = itemRepository.save(item);
+    @Test
+    public void shouldFindPageByItemIdNewestFirst() {
+        User owner = userRepository.save(Random.getUser());
+        User author = userRepository.save(Random.getUser());
+        Item item = saveItem(owner);
+        LocalDateTime now = LocalDateTime.now();
+
+        Comment oldest = saveComment(item, author, now.minusHours(3));
+        Comment middle = saveComment(item, author, now.minusHours(2));
+        Comment newest = saveComment(item, author, now.minusHours(1));
+        saveComment(saveItem(owner), author, now);
+
+        assertThat(commentRepository.findPageByItemId(item.getId(), PageRequest.of(0, 2)))
+                .extracting(Comment::getId)
+                .containsExactly(newest.getId(), middle.getId());
+        assertThat(commentRepository.findPageByItemId(item.getId(), PageRequest.of(1, 2)))
+                .extracting(Comment::getId)
+                .containsExactly(oldest.getId());
+    }
 
-        User author = Random.getUser();
-        author = userRepository.save(author);
+    /**
+     * Оба способа чтения последних комментариев. На H2 {@code LATERAL} эмулируется, результат должен совпадать.
+     */
+    private List<LatestCommentsReader> readers() {
+        return List.of(new WindowLatestCommentsReader(commentRepository),
+                new LateralLatestCommentsReader(commentRepository));
+    }
+
+    private Item saveItem(User owner) {
+        Item item = ItemMapper.toItem(Random.getItemDto());
+        item.setOwnerId(owner.getId());
+        return itemRepository.save(item);
+    }
 
+    private Comment saveComment(Item item, User author, LocalDateTime created) {
         Comment comment = new Comment();
         comment.setAuthor(author);
         comment.setItem(item);
         comment.setText(Random.getComment().text());
-        comment.setCreated(LocalDateTime.now());
-
-        commentRepository.save(comment);
-
-        Collection<Comment> comments = commentRepository.findByItemOwnerId(item.getOwnerId());
-
-        assertThat(comments).hasSize(1);
-
-        Comment c = comments.iterator().next();
-
-        assertThat(c.getId()).isEqualTo(comment.getId());
-        assertThat(c.getAuthor()).isEqualTo(author);
-        assertThat(c.getItem()).isEqualTo(item);
+        comment.setCreated(created);
+        return commentRepository.save(comment);
     }
-}
\ No newline at end of file
+}
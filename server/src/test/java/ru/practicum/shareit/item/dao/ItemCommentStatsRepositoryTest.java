@@ -0,0 +1,70 @@
+package ru.practicum.shareit.item.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import ru.practicum.shareit.Random;
+import ru.practicum.shareit.item.mappers.ItemMapper;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemCommentStats;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ItemCommentStatsRepositoryTest {
+
+    private final ItemCommentStatsRepository commentStatsRepository;
+    private final CommentRepository commentRepository;
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+
+    @Test
+    public void incrementShouldCreateCounterFromExistingComments() {
+        User owner = userRepository.save(Random.getUser());
+        User author = userRepository.save(Random.getUser());
+        Item item = saveItem(owner);
+        saveComment(item, author);
+        saveComment(item, author);
+
+        commentStatsRepository.increment(item.getId());
+
+        assertThat(commentStatsRepository.findById(item.getId()))
+                .contains(new ItemCommentStats(item.getId(), 2L));
+    }
+
+    @Test
+    public void incrementShouldIncreaseExistingCounter() {
+        User owner = userRepository.save(Random.getUser());
+        Item item = saveItem(owner);
+        commentStatsRepository.save(new ItemCommentStats(item.getId(), 5L));
+
+        commentStatsRepository.increment(item.getId());
+
+        assertThat(commentStatsRepository.findById(item.getId()))
+                .contains(new ItemCommentStats(item.getId(), 6L));
+    }
+
+    private Item saveItem(User owner) {
+        Item item = ItemMapper.toItem(Random.getItemDto());
+        item.setOwnerId(owner.getId());
+        return itemRepository.save(item);
+    }
+
+    private void saveComment(Item item, User author) {
+        Comment comment = new Comment();
+        comment.setAuthor(author);
+        comment.setItem(item);
+        comment.setText(Random.getComment().text());
+        comment.setCreated(LocalDateTime.now());
+        commentRepository.save(comment);
+    }
+}
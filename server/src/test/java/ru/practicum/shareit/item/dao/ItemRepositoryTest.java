@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import ru.practicum.shareit.Random;
 import ru.practicum.shareit.item.dto.ItemShortWithRequestId;
 import ru.practicum.shareit.item.mappers.ItemMapper;
@@ -109,11 +110,27 @@ public class ItemRepositoryTest {
         Item item1 = ItemMapper.toItem(Random.getItemDto());
         item1.setOwnerId(user.getId());
         item1.setDescription("SPEC_DESCRIPTION");
+        item1.setIsAvailable(true);
         item1 = itemRepository.save(item1);
 
-        Collection<Item> items = itemRepository.searchByNameOrDescription(item1.getDescription());
+        Collection<Item> items = itemRepository.searchByNameOrDescription(item1.getDescription(), Limit.of(10));
 
         assertThat(items).hasSize(1);
         assertThat(items.iterator().next().getId()).isEqualTo(item1.getId());
     }
+
+    @Test
+    public void shouldNotSearchUnavailableByDescription() {
+        User user = userRepository.save(Random.getUser());
+
+        Item item = ItemMapper.toItem(Random.getItemDto());
+        item.setOwnerId(user.getId());
+        item.setDescription("HIDDEN_DESCRIPTION");
+        item.setIsAvailable(false);
+        itemRepository.save(item);
+
+        Collection<Item> items = itemRepository.searchByNameOrDescription("HIDDEN_DESCRIPTION", Limit.of(10));
+
+        assertThat(items).isEmpty();
+    }
 }
\ No newline at end of file
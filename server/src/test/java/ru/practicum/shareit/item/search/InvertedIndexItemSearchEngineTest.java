@@ -0,0 +1,118 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class InvertedIndexItemSearchEngineTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    private InvertedIndexItemSearchEngine engine;
+
+    @BeforeEach
+    public void setUp() {
+        engine = new InvertedIndexItemSearchEngine(itemRepository);
+    }
+
+    @Test
+    public void shouldLoadItemsOnStartup() {
+        Item item = new Item(1L, "Дрель", "Простая дрель", true, 1L, null);
+        when(itemRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(item)));
+
+        engine.load();
+
+        assertThat(engine.search("дрель", 10)).extracting(Item::getId).containsExactly(1L);
+    }
+
+    @Test
+    public void shouldFindByWordPrefixInNameOrDescription() {
+        engine.index(new Item(1L, "searchable", "thing", true, 1L, null));
+        engine.index(new Item(2L, "other", "Searching tool", true, 1L, null));
+        engine.index(new Item(3L, "other", "nothing", true, 1L, null));
+
+        assertThat(engine.search("SEARCH", 10)).extracting(Item::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    public void shouldRankExactWordAboveAPrefix() {
+        engine.index(new Item(1L, "screwdriver", "tool", true, 1L, null));
+        engine.index(new Item(2L, "screw", "tool", true, 1L, null));
+
+        assertThat(engine.search("screw", 10)).extracting(Item::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    public void shouldRequireAllWords() {
+        engine.index(new Item(1L, "red drill", "tool", true, 1L, null));
+        engine.index(new Item(2L, "blue drill", "tool", true, 1L, null));
+
+        assertThat(engine.search("drill red", 10)).extracting(Item::getId).containsExactly(1L);
+    }
+
+    @Test
+    public void shouldLimitResults() {
+        engine.index(new Item(1L, "drill", "tool", true, 1L, null));
+        engine.index(new Item(2L, "drill", "tool", true, 1L, null));
+
+        assertThat(engine.search("drill", 1)).hasSize(1);
+    }
+
+    @Test
+    public void shouldDropItemWhenItBecomesUnavailable() {
+        Item item = new Item(1L, "drill", "tool", true, 1L, null);
+        engine.index(item);
+
+        item.setIsAvailable(false);
+        engine.index(item);
+
+        assertThat(engine.search("drill", 10)).isEmpty();
+    }
+
+    @Test
+    public void shouldReindexChangedText() {
+        Item item = new Item(1L, "drill", "tool", true, 1L, null);
+        engine.index(item);
+
+        item.setName("hammer");
+        engine.index(item);
+
+        assertThat(engine.search("drill", 10)).isEmpty();
+        assertThat(engine.search("hammer", 10)).extracting(Item::getId).containsExactly(1L);
+    }
+
+    @Test
+    public void shouldRemoveItem() {
+        engine.index(new Item(1L, "drill", "tool", true, 1L, null));
+        engine.index(new Item(2L, "drill", "tool", true, 1L, null));
+
+        engine.remove(1L);
+
+        assertThat(engine.search("drill", 10)).extracting(Item::getId).containsExactly(2L);
+    }
+
+    @Test
+    public void shouldRemoveItemsOfOwner() {
+        engine.index(new Item(1L, "drill", "tool", true, 1L, null));
+        engine.index(new Item(2L, "drill", "tool", true, 2L, null));
+        engine.index(new Item(3L, "drill", "tool", true, 1L, null));
+
+        engine.removeByOwner(1L);
+
+        assertThat(engine.search("drill", 10)).extracting(Item::getId).containsExactly(2L);
+    }
+}
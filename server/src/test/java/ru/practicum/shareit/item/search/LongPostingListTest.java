@@ -0,0 +1,38 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LongPostingListTest {
+
+    @Test
+    public void shouldKeepIdsSortedAndUnique() {
+        LongPostingList list = new LongPostingList();
+
+        for (long id : new long[]{5, 1, 9, 3, 1, 7, 5}) {
+            list.add(id);
+        }
+
+        assertThat(list.size()).isEqualTo(5);
+        assertThat(new long[]{list.get(0), list.get(1), list.get(2), list.get(3), list.get(4)})
+                .containsExactly(1, 3, 5, 7, 9);
+    }
+
+    @Test
+    public void shouldRemoveIds() {
+        LongPostingList list = new LongPostingList();
+        for (long id = 1; id <= 100; id++) {
+            list.add(id);
+        }
+
+        for (long id = 1; id <= 99; id++) {
+            list.remove(id);
+        }
+        list.remove(1000);
+
+        assertThat(list.size()).isEqualTo(1);
+        assertThat(list.contains(100)).isTrue();
+        assertThat(list.contains(1)).isFalse();
+    }
+}
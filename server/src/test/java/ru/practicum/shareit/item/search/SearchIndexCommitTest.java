@@ -0,0 +1,116 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.Random;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Предмет попадает в поисковый индекс только после фиксации транзакции
+ * и пропадает из него после удаления владельца.
+ */
+@SpringBootTest(properties = "shareit.search.engine=memory")
+public class SearchIndexCommitTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long ownerId;
+
+    @BeforeEach
+    public void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        ownerId = userRepository.save(Random.getUser()).getId();
+    }
+
+    @Test
+    public void shouldIndexCommittedItem() {
+        String word = uniqueWord();
+
+        ItemDto saved = itemService.addItem(ownerId, itemDto(word));
+
+        assertThat(itemService.searchItems(word, 10)).extracting(ItemDto::getId).containsExactly(saved.getId());
+    }
+
+    @Test
+    public void shouldNotIndexRolledBackItem() {
+        String word = uniqueWord();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            itemService.addItem(ownerId, itemDto(word));
+            status.setRollbackOnly();
+        });
+
+        assertThat(itemService.searchItems(word, 10)).isEmpty();
+    }
+
+    @Test
+    public void shouldKeepIndexedItemWhenUpdateRolledBack() {
+        String oldWord = uniqueWord();
+        String newWord = uniqueWord();
+        ItemDto saved = itemService.addItem(ownerId, itemDto(oldWord));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            itemService.updateItem(ownerId, saved.getId(), itemDto(newWord));
+            status.setRollbackOnly();
+        });
+
+        assertThat(itemService.searchItems(oldWord, 10)).extracting(ItemDto::getId).containsExactly(saved.getId());
+        assertThat(itemService.searchItems(newWord, 10)).isEmpty();
+    }
+
+    @Test
+    public void shouldDropItemsOfDeletedOwner() {
+        String word = uniqueWord();
+        Long deletedOwnerId = addUser();
+        itemService.addItem(deletedOwnerId, itemDto(word));
+        ItemDto kept = itemService.addItem(ownerId, itemDto(word));
+
+        userService.deleteUser(deletedOwnerId);
+
+        assertThat(itemService.searchItems(word, 10)).extracting(ItemDto::getId).containsExactly(kept.getId());
+    }
+
+    private Long addUser() {
+        User user = Random.getUser();
+        UserDto dto = new UserDto();
+        dto.setName(user.getName());
+        dto.setEmail(user.getEmail());
+        return userService.addUser(dto).getId();
+    }
+
+    private static ItemDto itemDto(String word) {
+        ItemDto dto = new ItemDto();
+        dto.setName(word);
+        dto.setDescription("description " + word);
+        dto.setAvailable(true);
+        return dto;
+    }
+
+    private static String uniqueWord() {
+        return "item" + UUID.randomUUID().toString().replace("-", "");
+    }
+}
@@ -0,0 +1,124 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TrigramItemSearchEngineTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    private TrigramItemSearchEngine engine;
+
+    @BeforeEach
+    public void setUp() {
+        engine = new TrigramItemSearchEngine(itemRepository);
+    }
+
+    @Test
+    public void shouldLoadItemsOnStartup() {
+        Item item = new Item(1L, "Дрель", "Простая дрель", true, 1L, null);
+        when(itemRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(item)));
+
+        engine.load();
+
+        assertThat(engine.search("ДРЕЛ", 10)).extracting(Item::getId).containsExactly(1L);
+    }
+
+    @Test
+    public void shouldFindSubstringInNameOrDescription() {
+        engine.index(new Item(2L, "other", "a SCREWdriver", true, 1L, null));
+        engine.index(new Item(1L, "screw", "thing", true, 1L, null));
+        engine.index(new Item(3L, "crew", "nothing", true, 1L, null));
+
+        assertThat(engine.search("screw", 10)).extracting(Item::getId).containsExactly(1L, 2L);
+        assertThat(engine.search("rewd", 10)).extracting(Item::getId).containsExactly(2L);
+    }
+
+    @Test
+    public void shouldNotMatchWhenTrigramsArePresentButNotAdjacent() {
+        engine.index(new Item(1L, "abcd", "bcde", true, 1L, null));
+
+        assertThat(engine.search("abcde", 10)).isEmpty();
+    }
+
+    @Test
+    public void shouldScanForShortQueries() {
+        engine.index(new Item(1L, "ab", "x", true, 1L, null));
+        engine.index(new Item(2L, "cd", "xab", true, 1L, null));
+        engine.index(new Item(3L, "cd", "y", true, 1L, null));
+
+        assertThat(engine.search("ab", 10)).extracting(Item::getId).containsExactly(1L, 2L);
+        assertThat(engine.search("ab", 1)).extracting(Item::getId).containsExactly(1L);
+    }
+
+    @Test
+    public void shouldLimitResults() {
+        engine.index(new Item(1L, "drill", "tool", true, 1L, null));
+        engine.index(new Item(2L, "drill", "tool", true, 1L, null));
+
+        assertThat(engine.search("drill", 1)).extracting(Item::getId).containsExactly(1L);
+    }
+
+    @Test
+    public void shouldFollowAvailabilityChanges() {
+        Item item = new Item(1L, "drill", "tool", true, 1L, null);
+        engine.index(item);
+
+        item.setIsAvailable(false);
+        engine.index(item);
+        assertThat(engine.search("drill", 10)).isEmpty();
+
+        item.setIsAvailable(true);
+        engine.index(item);
+        assertThat(engine.search("drill", 10)).extracting(Item::getId).containsExactly(1L);
+    }
+
+    @Test
+    public void shouldReindexChangedText() {
+        Item item = new Item(1L, "drill", "tool", true, 1L, null);
+        engine.index(item);
+
+        item.setName("hammer");
+        engine.index(item);
+
+        assertThat(engine.search("drill", 10)).isEmpty();
+        assertThat(engine.search("hamm", 10)).extracting(Item::getId).containsExactly(1L);
+    }
+
+    @Test
+    public void shouldRemoveItem() {
+        engine.index(new Item(1L, "drill", "tool", true, 1L, null));
+        engine.index(new Item(2L, "drill", "tool", true, 1L, null));
+
+        engine.remove(1L);
+
+        assertThat(engine.search("drill", 10)).extracting(Item::getId).containsExactly(2L);
+        assertThat(engine.search("dr", 10)).extracting(Item::getId).containsExactly(2L);
+    }
+
+    @Test
+    public void shouldRemoveItemsOfOwner() {
+        engine.index(new Item(1L, "drill", "tool", true, 1L, null));
+        engine.index(new Item(2L, "drill", "tool", true, 2L, null));
+        engine.index(new Item(3L, "drill", "tool", true, 1L, null));
+
+        engine.removeByOwner(1L);
+
+        assertThat(engine.search("drill", 10)).extracting(Item::getId).containsExactly(2L);
+    }
+}
@@ -0,0 +1,10 @@
+package ru.practicum.shareit.item.search;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Те же проверки отката для триграммного индекса.
+ */
+@SpringBootTest(properties = "shareit.search.engine=trigram")
+public class TrigramSearchIndexCommitTest extends SearchIndexCommitTest {
+}
@@ -0,0 +1,81 @@
+package ru.practicum.shareit.item.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.Random;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Параллельная загрузка предметов владельца не исчерпывает пул соединений,
+ * даже когда одновременных вызовов больше, чем соединений.
+ */
+@SpringBootTest(properties = {
+        "shareit.item-enrichment.parallel=true",
+        "shareit.item-enrichment.pool-size=2",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=1000"
+})
+public class ItemEnrichmentPoolTest {
+
+    private static final int CALLERS = 8;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Test
+    public void shouldServeMoreConcurrentCallersThanPoolSize() throws Exception {
+        User owner = Random.getUser();
+        UserDto ownerDto = new UserDto();
+        ownerDto.setName(owner.getName());
+        ownerDto.setEmail(owner.getEmail());
+        Long ownerId = userService.addUser(ownerDto).getId();
+        itemRepository.save(Item.builder()
+                .name("item")
+                .description("description")
+                .isAvailable(true)
+                .ownerId(ownerId)
+                .build());
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<Collection<ItemDto>>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return itemService.getItems(ownerId);
+                }));
+            }
+            start.countDown();
+
+            for (Future<Collection<ItemDto>> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS)).hasSize(1);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
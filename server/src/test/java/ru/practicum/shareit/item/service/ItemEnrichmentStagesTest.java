@@ -0,0 +1,96 @@
+package ru.practicum.shareit.item.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import ru.practicum.shareit.Futures;
+import ru.practicum.shareit.validation.exceptions.NotFoundException;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class ItemEnrichmentStagesTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private ItemEnrichmentStages stages;
+
+    @AfterEach
+    public void tearDown() {
+        stages.destroy();
+    }
+
+    @Test
+    public void shouldRunForkedStageInCallerThreadWhenSequential() {
+        stages = new ItemEnrichmentStages(registry, transactionManager, false, 2);
+
+        CompletableFuture<String> thread = stages.fork("dates", () -> Thread.currentThread().getName());
+
+        assertThat(thread).isDone();
+        assertThat(Futures.join(thread)).isEqualTo(Thread.currentThread().getName());
+        assertThat(registry.get(ItemEnrichmentStages.TIMER_NAME)
+                .tag("stage", "dates")
+                .tag("mode", "sequential")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRunForkedStageInDedicatedPoolWhenParallel() {
+        stages = new ItemEnrichmentStages(registry, transactionManager, true, 2);
+
+        String forked = Futures.join(stages.fork("comments", () -> Thread.currentThread().getName()));
+        String inline = stages.run("items", () -> Thread.currentThread().getName());
+
+        assertThat(forked).startsWith("item-enrichment-");
+        assertThat(inline).isEqualTo(Thread.currentThread().getName());
+        assertThat(registry.get(ItemEnrichmentStages.TIMER_NAME)
+                .tag("stage", "comments")
+                .tag("mode", "parallel")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get(ItemEnrichmentStages.TIMER_NAME).tag("stage", "items").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRethrowStageException() {
+        stages = new ItemEnrichmentStages(registry, transactionManager, true, 1);
+
+        CompletableFuture<Object> failed = stages.fork("dates", () -> {
+            throw new NotFoundException("Пользователь с id 1 не найден");
+        });
+
+        assertThatThrownBy(() -> Futures.join(failed))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    public void shouldLoadInReadOnlyTransactionWhenSequential() {
+        stages = new ItemEnrichmentStages(registry, transactionManager, false, 2);
+
+        String loaded = stages.load(() -> Futures.join(stages.fork("items", () -> "items")));
+
+        assertThat(loaded).isEqualTo("items");
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    public void shouldLoadWithoutTransactionWhenParallel() {
+        stages = new ItemEnrichmentStages(registry, transactionManager, true, 2);
+
+        String loaded = stages.load(() -> Futures.join(stages.fork("items", () -> "items")));
+
+        assertThat(loaded).isEqualTo("items");
+        verifyNoInteractions(transactionManager);
+    }
+}
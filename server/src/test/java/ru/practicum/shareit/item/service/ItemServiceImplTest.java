@@ -1,18 +1,28 @@
 package ru.practicum.shareit.item.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
 import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.dao.ItemBookingSummaryRepository;
+import ru.practicum.shareit.booking.model.ItemBookingSummary;
+import ru.practicum.shareit.item.comment.LatestCommentsReader;
 import ru.practicum.shareit.item.dao.CommentRepository;
+import ru.practicum.shareit.item.dao.ItemCommentStatsRepository;
 import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.item.dto.CommentCreate;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemCommentStats;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 import ru.practicum.shareit.validation.exceptions.BadRequestException;
@@ -22,12 +32,16 @@ import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
+import static ru.practicum.shareit.item.service.ItemServiceImpl.LATEST_COMMENTS_LIMIT;
 
 @ExtendWith(MockitoExtension.class)
 public class ItemServiceImplTest {
@@ -38,12 +52,28 @@ public class ItemServiceImplTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private LatestCommentsReader latestComments;
+
+    @Mock
+    private ItemCommentStatsRepository commentStatsRepository;
+
     @Mock
     private BookingRepository bookingRepository;
 
     @Mock
     private UserService userService;
 
+    @Mock
+    private ItemSearchEngine searchEngine;
+
+    @Mock
+    private ItemBookingSummaryRepository summaryRepository;
+
+    @Spy
+    private ItemEnrichmentStages enrichmentStages = new ItemEnrichmentStages(new SimpleMeterRegistry(),
+            mock(PlatformTransactionManager.class), false, 1);
+
     @InjectMocks
     private ItemServiceImpl itemService;
 
@@ -51,15 +81,51 @@ public class ItemServiceImplTest {
     public void shouldGetItem() {
         Item item = new Item(1L, "name", "desc", true, 1L, null);
         when(itemRepository.findById(1L)).thenReturn(Optional.of(item));
-        when(commentRepository.findByItemId(1L)).thenReturn(List.of());
+        when(commentRepository.findPageByItemId(1L, PageRequest.of(0, LATEST_COMMENTS_LIMIT))).thenReturn(List.of());
+        when(commentStatsRepository.findById(1L)).thenReturn(Optional.of(new ItemCommentStats(1L, 25L)));
 
         ItemDto result = itemService.getItem(1L);
 
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getName()).isEqualTo("name");
+        assertThat(result.getCommentsCount()).isEqualTo(25L);
         verify(itemRepository).findById(1L);
     }
 
+    @Test
+    public void shouldGetItemsByIdsInRequestedOrderWithComments() {
+        User author = new User(2L, "author", "author@test.com");
+        Item first = new Item(1L, "first", "desc", true, 1L, null);
+        Item second = new Item(2L, "second", "desc", true, 1L, null);
+        Comment comment = new Comment(1L, second, author, "text", LocalDateTime.now());
+        when(itemRepository.findAllById(Set.of(2L, 1L, 3L))).thenReturn(List.of(first, second));
+        when(latestComments.findByItemIdIn(Set.of(2L, 1L, 3L), LATEST_COMMENTS_LIMIT))
+                .thenReturn(List.of(comment));
+        when(commentStatsRepository.findAllById(Set.of(2L, 1L, 3L)))
+                .thenReturn(List.of(new ItemCommentStats(2L, 12L)));
+
+        Collection<ItemDto> result = itemService.getItemsByIds(List.of(2L, 1L, 2L, 3L));
+
+        assertThat(result).extracting(ItemDto::getId).containsExactly(2L, 1L);
+        assertThat(result).extracting(dto -> dto.getComments().size()).containsExactly(1, 0);
+        assertThat(result).extracting(ItemDto::getCommentsCount).containsExactly(12L, 0L);
+    }
+
+    @Test
+    public void shouldReturnEmptyListWhenNoIdsRequested() {
+        assertThat(itemService.getItemsByIds(List.of())).isEmpty();
+
+        verifyNoInteractions(itemRepository, commentRepository);
+    }
+
+    @Test
+    public void shouldThrowBadRequestWhenTooManyIdsRequested() {
+        List<Long> ids = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        assertThatThrownBy(() -> itemService.getItemsByIds(ids))
+                .isInstanceOf(BadRequestException.class);
+    }
+
     @Test
     public void shouldThrowNotFoundExceptionWhenGetItemWithInvalidId() {
         when(itemRepository.findById(999L)).thenReturn(Optional.empty());
@@ -72,21 +138,30 @@ public class ItemServiceImplTest {
     @Test
     public void shouldSearchItems() {
         Item item = new Item(1L, "item", "description", true, 1L, null);
-        when(itemRepository.searchByNameOrDescription("desc")).thenReturn(List.of(item));
+        when(searchEngine.search("desc", 10)).thenReturn(List.of(item));
 
-        Collection<ItemDto> result = itemService.searchItems("desc");
+        Collection<ItemDto> result = itemService.searchItems("desc", 10);
 
         assertThat(result).hasSize(1);
         assertThat(result.iterator().next().getName()).isEqualTo("item");
-        verify(itemRepository).searchByNameOrDescription("desc");
+        verify(searchEngine).search("desc", 10);
+    }
+
+    @Test
+    public void shouldLimitSearchPageSize() {
+        when(searchEngine.search("desc", 100)).thenReturn(List.of());
+
+        itemService.searchItems("desc", 10_000);
+
+        verify(searchEngine).search("desc", 100);
     }
 
     @Test
     public void shouldReturnEmptyListWhenSearchTextIsBlank() {
-        Collection<ItemDto> result = itemService.searchItems("   ");
+        Collection<ItemDto> result = itemService.searchItems("   ", 10);
 
         assertThat(result).isEmpty();
-        verify(itemRepository, never()).searchByNameOrDescription(any());
+        verify(searchEngine, never()).search(any(), anyInt());
     }
 
     @Test
@@ -95,12 +170,19 @@ public class ItemServiceImplTest {
         doNothing().when(userService).throwIfUserNotFound(1L);
 
         when(itemRepository.findByOwnerId(1L)).thenReturn(List.of(item));
-        when(bookingRepository.findLastAndNextDatesByOwnerId(1L)).thenReturn(List.of());
-        when(commentRepository.findByItemOwnerId(1L)).thenReturn(List.of());
+        when(summaryRepository.findByOwnerId(1L)).thenReturn(List.of(ItemBookingSummary.builder()
+                .itemId(1L)
+                .lastBooking(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .build()));
+        when(latestComments.findByItemOwnerId(1L, LATEST_COMMENTS_LIMIT)).thenReturn(List.of());
+        when(commentStatsRepository.findByOwnerId(1L)).thenReturn(List.of(new ItemCommentStats(1L, 3L)));
 
         Collection<ItemDto> result = itemService.getItems(1L);
 
         assertThat(result).hasSize(1);
+        assertThat(result.iterator().next().getCommentsCount()).isEqualTo(3L);
+        assertThat(result.iterator().next().getLastBooking()).isEqualTo(LocalDateTime.of(2024, 1, 1, 12, 0));
+        assertThat(result.iterator().next().getNextBooking()).isNull();
         verify(itemRepository).findByOwnerId(1L);
     }
 
@@ -120,6 +202,8 @@ public class ItemServiceImplTest {
 
         assertThat(result.getId()).isEqualTo(1L);
         verify(itemRepository).save(any());
+        verify(commentStatsRepository).save(new ItemCommentStats(1L, 0L));
+        verify(searchEngine).index(savedItem);
     }
 
     @Test
@@ -173,6 +257,39 @@ public class ItemServiceImplTest {
 
         assertThat(result.getText()).isEqualTo("comment");
         verify(commentRepository).save(any());
+        verify(commentStatsRepository).increment(1L);
+        verify(commentStatsRepository, never()).save(any());
+    }
+
+    @Test
+    public void shouldGetCommentsPage() {
+        User author = new User(2L, "author", "author@test.com");
+        Item item = new Item(1L, "item", "desc", true, 1L, null);
+        Comment comment = new Comment(5L, item, author, "text", LocalDateTime.now());
+        when(itemRepository.existsById(1L)).thenReturn(true);
+        when(commentRepository.findPageByItemId(1L, PageRequest.of(2, 10))).thenReturn(List.of(comment));
+
+        Collection<CommentDto> result = itemService.getComments(1L, 25, 10);
+
+        assertThat(result).extracting(CommentDto::getId).containsExactly(5L);
+        assertThat(result).extracting(CommentDto::getAuthorName).containsExactly("author");
+    }
+
+    @Test
+    public void shouldThrowNotFoundExceptionWhenGetCommentsOfUnknownItem() {
+        when(itemRepository.existsById(999L)).thenReturn(false);
+
+        assertThatThrownBy(() -> itemService.getComments(999L, 0, 10))
+                .isInstanceOf(NotFoundException.class);
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    public void shouldThrowBadRequestWhenCommentsPageIsInvalid() {
+        when(itemRepository.existsById(1L)).thenReturn(true);
+
+        assertThatThrownBy(() -> itemService.getComments(1L, -1, 10))
+                .isInstanceOf(BadRequestException.class);
     }
 
     @Test
@@ -0,0 +1,49 @@
+package ru.practicum.shareit.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(registry, Duration.ofMillis(1));
+
+    @AfterEach
+    public void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    public void shouldCountVirtualThreadBlockedInsideSynchronized() throws InterruptedException {
+        monitor.start();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+        while (pinnedCount() == 0 && System.nanoTime() < deadline) {
+            Thread.ofVirtual().start(VirtualThreadPinningMonitorTest::sleepWhileHoldingMonitor).join();
+            Thread.sleep(200);
+        }
+
+        assertThat(pinnedCount()).isPositive();
+        assertThat(registry.get("jvm.threads.virtual.pinned.duration").timer().count()).isPositive();
+    }
+
+    private double pinnedCount() {
+        return registry.get("jvm.threads.virtual.pinned").counter().count();
+    }
+
+    private static void sleepWhileHoldingMonitor() {
+        Object lock = new Object();
+        synchronized (lock) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package ru.practicum.shareit.owner;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.Constants;
+import ru.practicum.shareit.booking.dto.BookingResponse;
+import ru.practicum.shareit.booking.enums.BookingStatus;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.owner.dto.OwnerDashboard;
+import ru.practicum.shareit.owner.service.OwnerDashboardService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(OwnerController.class)
+public class OwnerControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private OwnerDashboardService dashboardService;
+
+    @Test
+    public void shouldGetDashboard() throws Exception {
+        ItemDto item = new ItemDto();
+        item.setId(1L);
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        BookingResponse waiting = new BookingResponse(2L, start, start.plusDays(1), BookingStatus.WAITING,
+                new BookingResponse.BookedItem(1L, "item"), new BookingResponse.Booker(3L, "booker"));
+        when(dashboardService.getDashboard(1L))
+                .thenReturn(new OwnerDashboard(List.of(item), List.of(), List.of(waiting), List.of(waiting)));
+
+        mockMvc.perform(get("/owners/me/dashboard")
+                        .header(Constants.USER_ID_HEADER, 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.current").isEmpty())
+                .andExpect(jsonPath("$.future[0].id").value(2))
+                .andExpect(jsonPath("$.waiting[0].booker.id").value(3));
+    }
+}
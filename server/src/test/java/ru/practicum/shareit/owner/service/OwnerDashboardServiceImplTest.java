@@ -0,0 +1,101 @@
+package ru.practicum.shareit.owner.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import ru.practicum.shareit.booking.dto.BookingPage;
+import ru.practicum.shareit.booking.enums.BookingState;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.owner.dto.OwnerDashboard;
+import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.validation.exceptions.NotFoundException;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class OwnerDashboardServiceImplTest {
+
+    @Mock
+    private ItemService itemService;
+
+    @Mock
+    private BookingService bookingService;
+
+    @Mock
+    private UserService userService;
+
+    private OwnerDashboardServiceImpl dashboardService;
+
+    @BeforeEach
+    public void setUp() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("dashboard-");
+        executor.setVirtualThreads(true);
+        dashboardService = new OwnerDashboardServiceImpl(itemService, bookingService, userService, executor);
+    }
+
+    @Test
+    public void shouldRunQueriesConcurrently() {
+        // каждый запрос ждет остальные: при последовательном выполнении защелка не откроется
+        CountDownLatch allStarted = new CountDownLatch(4);
+        ItemDto item = new ItemDto();
+        item.setId(1L);
+
+        when(itemService.getItems(1L)).thenAnswer(invocation -> {
+            awaitOthers(allStarted);
+            return List.of(item);
+        });
+        when(bookingService.findByOwnerAndState(eq(1L), any(BookingState.class), isNull(), anyInt()))
+                .thenAnswer(invocation -> {
+                    awaitOthers(allStarted);
+                    return new BookingPage(List.of(), null);
+                });
+
+        OwnerDashboard dashboard = dashboardService.getDashboard(1L);
+
+        assertThat(dashboard.items()).containsExactly(item);
+        assertThat(dashboard.current()).isEmpty();
+        assertThat(dashboard.future()).isEmpty();
+        assertThat(dashboard.waiting()).isEmpty();
+    }
+
+    @Test
+    public void shouldRethrowQueryException() {
+        when(itemService.getItems(1L)).thenThrow(new NotFoundException("Пользователь с id 1 не найден"));
+        when(bookingService.findByOwnerAndState(eq(1L), any(BookingState.class), isNull(), anyInt()))
+                .thenReturn(new BookingPage(List.of(), null));
+
+        assertThatThrownBy(() -> dashboardService.getDashboard(1L))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    public void shouldNotQueryForUnknownOwner() {
+        doThrow(new NotFoundException("Пользователь с id 1 не найден")).when(userService).throwIfUserNotFound(1L);
+
+        assertThatThrownBy(() -> dashboardService.getDashboard(1L))
+                .isInstanceOf(NotFoundException.class);
+        verifyNoInteractions(itemService, bookingService);
+    }
+
+    private static void awaitOthers(CountDownLatch latch) throws InterruptedException {
+        latch.countDown();
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -7,19 +7,26 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.practicum.shareit.Constants;
 import ru.practicum.shareit.request.dto.ItemRequestCreate;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.service.ItemRequestService;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ItemRequestController.class)
@@ -75,6 +82,57 @@ public class ItemRequestControllerTest {
                 .andExpect(jsonPath("$[0].id").value(1));
     }
 
+    @Test
+    public void shouldGetAllRequestsPage() throws Exception {
+        ItemRequestDto dto = new ItemRequestDto();
+        dto.setId(1L);
+        when(itemRequestService.getAllRequests(0, 20)).thenReturn(Collections.singletonList(dto));
+
+        mockMvc.perform(get("/requests/all")
+                        .param("from", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1));
+    }
+
+    @Test
+    public void shouldGetRequestsPage() throws Exception {
+        ItemRequestDto dto = new ItemRequestDto();
+        dto.setId(1L);
+        when(itemRequestService.getRequests(1L, 0, 5)).thenReturn(Collections.singletonList(dto));
+
+        mockMvc.perform(get("/requests")
+                        .header(Constants.USER_ID_HEADER, 1L)
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldExportAllRequestsAsNdjson() throws Exception {
+        ItemRequestDto first = new ItemRequestDto();
+        first.setId(1L);
+        ItemRequestDto second = new ItemRequestDto();
+        second.setId(2L);
+        doAnswer(invocation -> {
+            Consumer<List<ItemRequestDto>> consumer = invocation.getArgument(0);
+            consumer.accept(List.of(first));
+            consumer.accept(List.of(second));
+            return null;
+        }).when(itemRequestService).exportAllRequests(any());
+
+        MvcResult result = mockMvc.perform(get("/requests/all")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(objectMapper.writeValueAsString(first) + "\n"
+                        + objectMapper.writeValueAsString(second) + "\n"));
+    }
+
     @Test
     public void shouldGetRequest() throws Exception {
         ItemRequestDto dto = new ItemRequestDto();
@@ -12,6 +12,8 @@ import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 
@@ -41,4 +43,18 @@ public class ItemRequestRepositoryTest {
         assertThat(requests.iterator().next().getId()).isEqualTo(request1.getId());
     }
 
+    @Test
+    public void shouldStreamAllByOrderByCreatedDesc() {
+        User user = userRepository.save(Random.getUser());
+        LocalDateTime now = LocalDateTime.now();
+        ItemRequest older = itemRequestRepository.save(new ItemRequest(null, "older", user.getId(), now.minusDays(1)));
+        ItemRequest newer = itemRequestRepository.save(new ItemRequest(null, "newer", user.getId(), now));
+
+        List<Long> ids;
+        try (Stream<ItemRequest> stream = itemRequestRepository.streamAllByOrderByCreatedDesc()) {
+            ids = stream.map(ItemRequest::getId).toList();
+        }
+
+        assertThat(ids).containsSubsequence(newer.getId(), older.getId());
+    }
 }
\ No newline at end of file
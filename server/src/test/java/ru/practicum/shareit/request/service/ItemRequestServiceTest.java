@@ -1,10 +1,12 @@
 package ru.practicum.shareit.request.service;
 
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.item.dto.ItemShortWithRequestId;
@@ -12,12 +14,15 @@ import ru.practicum.shareit.request.dao.ItemRequestRepository;
 import ru.practicum.shareit.request.dto.ItemRequestCreate;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.validation.exceptions.BadRequestException;
 import ru.practicum.shareit.validation.exceptions.NotFoundException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -33,6 +38,9 @@ public class ItemRequestServiceTest {
     @Mock
     private ItemRepository itemRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private ItemRequestService itemRequestService;
 
@@ -62,6 +70,23 @@ public class ItemRequestServiceTest {
         verify(requestRepository).findByRequestorIdOrderByCreatedDesc(1L);
     }
 
+    @Test
+    public void shouldExportAllRequestsByChunks() {
+        int total = ItemRequestService.EXPORT_CHUNK_SIZE + 1;
+        LocalDateTime now = LocalDateTime.now();
+        when(requestRepository.streamAllByOrderByCreatedDesc()).thenReturn(LongStream.rangeClosed(1, total)
+                .mapToObj(id -> new ItemRequest(id, "desc", 1L, now.minusMinutes(id))));
+        when(itemRepository.findAllByRequestIdIn(any())).thenReturn(List.of());
+
+        List<List<ItemRequestDto>> chunks = new ArrayList<>();
+        itemRequestService.exportAllRequests(chunks::add);
+
+        assertThat(chunks).extracting(List::size).containsExactly(ItemRequestService.EXPORT_CHUNK_SIZE, 1);
+        assertThat(chunks.getLast().getFirst().getId()).isEqualTo(total);
+        verify(itemRepository, times(2)).findAllByRequestIdIn(any());
+        verify(entityManager, times(total)).detach(any(ItemRequest.class));
+    }
+
     @Test
     public void shouldGetAllRequests() {
         ItemRequest request = new ItemRequest(1L, "desc", 1L, LocalDateTime.now());
@@ -75,6 +100,59 @@ public class ItemRequestServiceTest {
         verify(requestRepository).findAll(any(Sort.class));
     }
 
+    @Test
+    public void shouldGetAllRequestsPage() {
+        ItemRequest request = new ItemRequest(1L, "desc", 1L, LocalDateTime.now());
+
+        when(requestRepository.findAllByOrderByCreatedDesc(PageRequest.of(2, 10))).thenReturn(List.of(request));
+        when(itemRepository.findAllByRequestIdIn(List.of(1L))).thenReturn(List.of());
+
+        Collection<ItemRequestDto> result = itemRequestService.getAllRequests(25, 10);
+
+        assertThat(result).extracting(ItemRequestDto::getId).containsExactly(1L);
+    }
+
+    @Test
+    public void shouldCapRequestsPageSize() {
+        when(requestRepository.findByRequestorIdOrderByCreatedDesc(1L, PageRequest.of(0, 100)))
+                .thenReturn(List.of());
+
+        assertThat(itemRequestService.getRequests(1L, 0, 1000)).isEmpty();
+    }
+
+    @Test
+    public void shouldRejectInvalidPage() {
+        assertThatThrownBy(() -> itemRequestService.getAllRequests(-1, 10))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> itemRequestService.getAllRequests(0, 0))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    public void shouldLoadItemsByBoundedIdChunks() {
+        int total = ItemRequestService.IN_CHUNK_SIZE * 2 + 1;
+        LocalDateTime now = LocalDateTime.now();
+        List<ItemRequest> requests = LongStream.rangeClosed(1, total)
+                .mapToObj(id -> new ItemRequest(id, "desc", 1L, now))
+                .toList();
+        ItemShortWithRequestId last = mock(ItemShortWithRequestId.class);
+        when(last.getRequestId()).thenReturn((long) total);
+        when(last.getId()).thenReturn(7L);
+
+        when(requestRepository.findAll(any(Sort.class))).thenReturn(requests);
+        when(itemRepository.findAllByRequestIdIn(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            assertThat(ids).hasSizeLessThanOrEqualTo(ItemRequestService.IN_CHUNK_SIZE);
+            return ids.contains((long) total) ? List.of(last) : List.of();
+        });
+
+        List<ItemRequestDto> result = List.copyOf(itemRequestService.getAllRequests());
+
+        assertThat(result).hasSize(total);
+        assertThat(result.getLast().getItems()).extracting("id").containsExactly(7L);
+        verify(itemRepository, times(3)).findAllByRequestIdIn(any());
+    }
+
     @Test
     public void shouldGetRequest() {
         ItemRequest request = new ItemRequest(1L, "desc", 1L, LocalDateTime.now());
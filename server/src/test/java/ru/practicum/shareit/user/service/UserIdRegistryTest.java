@@ -0,0 +1,110 @@
+package ru.practicum.shareit.user.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UserIdRegistryTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserIdRegistry registry;
+
+    @Test
+    public void shouldAnswerLoadedIdsWithoutDatabase() {
+        when(userRepository.streamAllIds()).thenReturn(Stream.of(1L, 5L));
+
+        registry.load();
+
+        assertThat(registry.exists(1L)).isTrue();
+        assertThat(registry.exists(5L)).isTrue();
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    public void shouldAnswerRegisteredIdWithoutDatabase() {
+        registry.register(3L);
+
+        assertThat(registry.exists(3L)).isTrue();
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    public void shouldFallBackToDatabaseAndRememberFoundId() {
+        when(userRepository.findById(7L)).thenReturn(Optional.of(new User()));
+
+        assertThat(registry.exists(7L)).isTrue();
+        assertThat(registry.exists(7L)).isTrue();
+
+        verify(userRepository, times(1)).findById(7L);
+    }
+
+    @Test
+    public void shouldReturnFalseForUnknownUser() {
+        when(userRepository.findById(9L)).thenReturn(Optional.empty());
+
+        assertThat(registry.exists(9L)).isFalse();
+    }
+
+    @Test
+    public void shouldCheckDatabaseAfterUnregister() {
+        registry.register(2L);
+        when(userRepository.findById(2L)).thenReturn(Optional.empty());
+
+        registry.unregister(2L);
+
+        assertThat(registry.exists(2L)).isFalse();
+    }
+
+    @Test
+    public void shouldNotRememberIdFoundBeforeConcurrentRemoval() {
+        when(userRepository.findById(4L)).thenAnswer(invocation -> {
+            registry.unregister(4L);
+            return Optional.of(new User());
+        }).thenReturn(Optional.empty());
+
+        assertThat(registry.exists(4L)).isTrue();
+        assertThat(registry.exists(4L)).isFalse();
+    }
+
+    @Test
+    public void shouldNotLoadIdRemovedWhileLoading() {
+        when(userRepository.streamAllIds()).thenAnswer(invocation -> {
+            registry.unregister(6L);
+            return Stream.of(6L);
+        });
+        when(userRepository.findById(6L)).thenReturn(Optional.empty());
+
+        registry.load();
+
+        assertThat(registry.exists(6L)).isFalse();
+    }
+
+    @Test
+    public void shouldCheckDatabaseForIdsBeyondBitSet() {
+        long largeId = Integer.MAX_VALUE + 1L;
+        when(userRepository.findById(largeId)).thenReturn(Optional.of(new User()));
+
+        registry.register(largeId);
+
+        assertThat(registry.exists(largeId)).isTrue();
+        verify(userRepository).findById(largeId);
+    }
+}
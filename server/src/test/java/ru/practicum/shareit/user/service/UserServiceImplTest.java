@@ -1,10 +1,14 @@
 package ru.practicum.shareit.user.service;
 
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
 import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
@@ -24,6 +28,18 @@ public class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache entityCache;
+
+    @Mock
+    private UserIdRegistry userIdRegistry;
+
+    @Mock
+    private ItemSearchEngine searchEngine;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -62,6 +78,7 @@ public class UserServiceImplTest {
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getName()).isEqualTo("name");
         verify(userRepository).save(any());
+        verify(userIdRegistry).register(1L);
     }
 
     @Test
@@ -90,16 +107,20 @@ public class UserServiceImplTest {
 
     @Test
     public void shouldDeleteUser() {
-        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userIdRegistry.exists(1L)).thenReturn(true);
+        when(entityManagerFactory.getCache()).thenReturn(entityCache);
 
         userService.deleteUser(1L);
 
         verify(userRepository).deleteById(1L);
+        verify(userIdRegistry).unregister(1L);
+        verify(entityCache).evict(Item.class);
+        verify(searchEngine).removeByOwner(1L);
     }
 
     @Test
     public void shouldThrowNotFoundExceptionWhenDeleteNonExistentUser() {
-        when(userRepository.existsById(999L)).thenReturn(false);
+        when(userIdRegistry.exists(999L)).thenReturn(false);
 
         assertThatThrownBy(() -> userService.deleteUser(999L))
                 .isInstanceOf(NotFoundException.class);
@@ -107,7 +128,7 @@ public class UserServiceImplTest {
 
     @Test
     public void shouldThrowIfUserNotFound() {
-        when(userRepository.existsById(999L)).thenReturn(false);
+        when(userIdRegistry.exists(999L)).thenReturn(false);
 
         assertThatThrownBy(() -> userService.throwIfUserNotFound(999L))
                 .isInstanceOf(NotFoundException.class);
@@ -115,7 +136,7 @@ public class UserServiceImplTest {
 
     @Test
     public void shouldNotThrowWhenUserExists() {
-        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userIdRegistry.exists(1L)).thenReturn(true);
 
         userService.throwIfUserNotFound(1L);
     }
@@ -1,50 +0,0 @@
-CREATE TABLE IF NOT EXISTS users (
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
-    name VARCHAR(255) NOT NULL,
-    email VARCHAR(512) NOT NULL,
-    CONSTRAINT pk_user PRIMARY KEY (id),
-    CONSTRAINT UQ_USER_EMAIL UNIQUE (email)
-);
-
-CREATE TABLE IF NOT EXISTS item_requests(
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
-    description TEXT NOT NULL,
-    requestor_id BIGINT NOT NULL REFERENCES users (id) ON DELETE CASCADE,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    CONSTRAINT pk_item_request PRIMARY KEY (id)
-);
-
-CREATE TABLE IF NOT EXISTS items (
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
-    name VARCHAR(255) NOT NULL,
-    description VARCHAR(255) NOT NULL,
-    available BOOLEAN NOT NULL,
-    owner_id BIGINT NOT NULL,
-    request_id BIGINT,
-    FOREIGN KEY (request_id) REFERENCES item_requests(id) ON DELETE SET NULL,
-    CONSTRAINT pk_item PRIMARY KEY (id),
-    FOREIGN KEY (owner_id) REFERENCES users(id) ON DELETE CASCADE
-);
-
-CREATE TABLE IF NOT EXISTS bookings (
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
-    start_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
-    end_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
-    item_id BIGINT NOT NULL,
-    booker_id BIGINT NOT NULL,
-    status VARCHAR(255) NOT NULL,
-    CONSTRAINT pk_booking PRIMARY KEY (id),
-    FOREIGN KEY (item_id) REFERENCES items(id) ON DELETE CASCADE,
-    FOREIGN KEY (booker_id) REFERENCES users(id) ON DELETE CASCADE
-);
-
-CREATE TABLE IF NOT EXISTS comments (
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
-    item_id BIGINT NOT NULL,
-    author_id BIGINT NOT NULL,
-    content TEXT,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    CONSTRAINT pk_comments PRIMARY KEY (id),
-    FOREIGN KEY (item_id) REFERENCES items(id) ON DELETE CASCADE,
-    FOREIGN KEY (author_id) REFERENCES users(id) ON DELETE CASCADE
-);